@@ -7,6 +7,10 @@ plugins {
 
 dependencies {
     implementation(project(":animations"))
+    api(libs.kotlinx.coroutines.core)
+
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 tasks.withType<KotlinCompile> {
@@ -19,5 +23,11 @@ tasks.test {
 
 tasks.jar {
     from(project(":animations").sourceSets.main.get().output)
+    into("META-INF/versions/17") {
+        from(project(":animations").sourceSets["java17"].output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
     duplicatesStrategy = DuplicatesStrategy.EXCLUDE
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package dev.hogoshi.animations.kotlin
 
 import dev.hogoshi.animations.core.Animation
 import dev.hogoshi.animations.core.AnimationExecutor
+import dev.hogoshi.animations.core.TimeDomain
 import dev.hogoshi.animations.easing.Easing
 import dev.hogoshi.animations.model.AnimationConfig
 import java.util.function.Consumer
@@ -16,6 +17,10 @@ class AnimationBuilder {
     private var valueTo: Double = 0.0
     private var onUpdate: Consumer<Double>? = null
     private var onComplete: Runnable? = null
+    private var quantization: Double = 0.0
+    private var threshold: Double = 0.0
+    private var group: Any? = null
+    private var timeDomain: TimeDomain? = null
 
     /**
      * Configures the animation properties using a DSL block.
@@ -55,6 +60,42 @@ class AnimationBuilder {
         onComplete = Runnable { block() }
     }
 
+    /**
+     * Rounds the reported values to multiples of the given step, skipping updates that don't change the rounded value.
+     *
+     * @param step quantization step, e.g. 1.0 for whole pixels
+     */
+    fun quantize(step: Double) {
+        quantization = step
+    }
+
+    /**
+     * Skips updates until the value moved by at least the given amount. The final value is always reported.
+     *
+     * @param value minimum change of the value
+     */
+    fun threshold(value: Double) {
+        threshold = value
+    }
+
+    /**
+     * Assigns the animation to a group that executors can pause, resume or cancel as a whole.
+     *
+     * @param key group key compared with equals
+     */
+    fun group(key: Any) {
+        group = key
+    }
+
+    /**
+     * Attaches the animation to a time domain that scales or pauses it together with related animations.
+     *
+     * @param domain the time domain
+     */
+    fun timeDomain(domain: TimeDomain) {
+        timeDomain = domain
+    }
+
     /**
      * Builds and returns a new animation instance with the configured properties.
      *
@@ -64,6 +105,7 @@ class AnimationBuilder {
         val animation = Animation(config, fromValue, valueTo)
         onUpdate?.let { animation.onUpdate(it) }
         onComplete?.let { animation.onComplete(it) }
+        animation.withQuantization(quantization).withThreshold(threshold).withGroup(group).withTimeDomain(timeDomain)
         return animation
     }
 
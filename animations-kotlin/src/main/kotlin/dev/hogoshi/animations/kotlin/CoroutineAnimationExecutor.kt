@@ -0,0 +1,134 @@
+package dev.hogoshi.animations.kotlin
+
+import dev.hogoshi.animations.core.AbstractAnimationExecutor
+import dev.hogoshi.animations.core.Animation
+import dev.hogoshi.animations.core.AnimationExecutor
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.channels.awaitClose
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.callbackFlow
+import kotlinx.coroutines.flow.conflate
+import kotlinx.coroutines.suspendCancellableCoroutine
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicReference
+import java.util.function.BiConsumer
+import java.util.function.DoubleConsumer
+import kotlin.coroutines.resume
+
+/**
+ * Animation executor driven by a shared [FrameTicker].
+ * Updates run on the ticker thread and the animation store is thread-safe, so executors can be used from any coroutine
+ * and thousands of animations run without a thread per executor.
+ *
+ * @param ticker the ticker driving this executor
+ */
+class CoroutineAnimationExecutor(private val ticker: FrameTicker = FrameTicker.Default) : AbstractAnimationExecutor() {
+    init {
+        frameClock(ticker.clock)
+    }
+
+    override fun start() {
+        ticker.dispatch {
+            if (!isRunning) {
+                attachToClock()
+                ticker.wake()
+            }
+        }
+    }
+
+    /**
+     * Stops the executor on the ticker thread and waits until it is stopped, so animations executed
+     * afterwards are not cleared by it.
+     */
+    override fun stop() {
+        ticker.dispatchAndWait { super.stop() }
+    }
+}
+
+/**
+ * Suspends until the animation leaves its executor: when it finishes, is interrupted, is cancelled or the executor
+ * is stopped. Called before the animation is executed, it waits for that execution to end.
+ * Returns immediately if the animation has already ended. Cancelling the caller leaves the animation running.
+ */
+suspend fun Animation.awaitCompletion() {
+    completion().awaitEnd()
+}
+
+/**
+ * Executes the animation and suspends until it leaves the executor: when it finishes, is interrupted, is cancelled
+ * or the executor is stopped. Cancelling the caller cancels the animation.
+ *
+ * @param animation the animation to play
+ */
+suspend fun AnimationExecutor.play(animation: Animation) {
+    val handle = execute(animation)
+    try {
+        handle.completion().awaitEnd()
+    } catch (e: CancellationException) {
+        handle.cancel()
+        throw e
+    }
+}
+
+/**
+ * Builds an animation using a DSL block, executes it and suspends until it completes.
+ *
+ * @param block configuration block for the animation
+ * @return the completed animation
+ */
+suspend fun AnimationExecutor.animate(block: AnimationBuilder.() -> Unit): Animation {
+    val animation = animation(block)
+    play(animation)
+    return animation
+}
+
+/**
+ * Emits the animation values as they are produced, completing when the animation leaves its executor:
+ * when it finishes, is interrupted, is cancelled or the executor is stopped.
+ * The flow is conflated, so a slow collector only sees the latest value and never holds back the executor.
+ *
+ * @return a flow of animation values
+ */
+fun Animation.values(): Flow<Double> = callbackFlow {
+    val listener = DoubleConsumer { value -> trySend(value) }
+    addValueListener(listener)
+    val completion = completion()
+    if (completion.isDone && isFinished) {
+        trySend(getCurrentValue())
+    }
+    val closer = CompletionListener { channel.close() }
+    completion.whenComplete(closer)
+    awaitClose {
+        closer.detach()
+        removeValueListener(listener)
+    }
+}.conflate()
+
+/**
+ * Suspends until the future completes without cancelling it when the caller is cancelled,
+ * since completion futures are shared by everyone waiting for the animation.
+ */
+private suspend fun CompletableFuture<Void>.awaitEnd() {
+    if (isDone) return
+    suspendCancellableCoroutine { continuation ->
+        val listener = CompletionListener { continuation.resume(Unit) }
+        whenComplete(listener)
+        continuation.invokeOnCancellation { listener.detach() }
+    }
+}
+
+/**
+ * Completion callback that runs its action at most once and can be detached, releasing the action
+ * when its waiter goes away before the animation ends.
+ */
+private class CompletionListener(action: () -> Unit) : BiConsumer<Void?, Throwable?> {
+    private val action = AtomicReference<(() -> Unit)?>(action)
+
+    override fun accept(result: Void?, failure: Throwable?) {
+        action.getAndSet(null)?.invoke()
+    }
+
+    fun detach() {
+        action.set(null)
+    }
+}
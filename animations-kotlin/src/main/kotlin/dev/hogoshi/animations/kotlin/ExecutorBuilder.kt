@@ -1,16 +1,20 @@
 package dev.hogoshi.animations.kotlin
 
 import dev.hogoshi.animations.core.AbstractAnimation
+import dev.hogoshi.animations.core.AbstractAnimationExecutor
 import dev.hogoshi.animations.core.AnimationExecutor
-import dev.hogoshi.animations.core.SimpleAnimationExecutor
-import dev.hogoshi.animations.core.SwingAnimationExecutor
-import java.util.concurrent.Executors
-import java.util.concurrent.ScheduledExecutorService
+import dev.hogoshi.animations.core.FrameClock
+import dev.hogoshi.animations.core.ParallelUpdate
+import java.util.concurrent.ScheduledFuture
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
 
 /**
  * Builder class for creating custom animation executors.
  * Allows configuration of update callbacks, parallel processing, and FPS settings.
+ * Built executors share library-wide threads instead of creating threads of their own. One scheduler thread only
+ * times the frames, which run on a shared frame pool, so a slow update delays nothing but its own executor,
+ * whose frames are skipped until it catches up.
  */
 class ExecutorBuilder {
     private var onUpdate: ((List<AbstractAnimation>, Double) -> Unit)? = null
@@ -18,6 +22,7 @@ class ExecutorBuilder {
     private var onStop: (() -> Unit)? = null
     private var parallel = false
     private var fps = 60.0
+    private var frameClock: FrameClock? = null
 
     /**
      * Sets the callback to be executed on each animation update.
@@ -48,6 +53,8 @@ class ExecutorBuilder {
 
     /**
      * Enables or disables parallel processing of animations.
+     * When enabled, each update splits the animations into partitions that are updated concurrently
+     * on the shared worker pool and joined before the update completes. Callbacks then run on worker threads.
      *
      * @param value true to enable parallel processing, false otherwise
      */
@@ -66,6 +73,16 @@ class ExecutorBuilder {
         fps = value
     }
 
+    /**
+     * Drives the executor from a shared frame clock instead of its own scheduler.
+     * The FPS setting is ignored in this case, frames arrive at the clock's rate.
+     *
+     * @param clock the frame clock to subscribe to
+     */
+    fun frameClock(clock: FrameClock) {
+        frameClock = clock
+    }
+
     /**
      * Builds and returns a configured animation executor.
      *
@@ -74,56 +91,63 @@ class ExecutorBuilder {
     fun build(): AnimationExecutor {
         val updateRate = (1000.0 / fps).toLong()
 
-        return object : AnimationExecutor {
-            private val animations = mutableListOf<AbstractAnimation>()
-            private var executor: ScheduledExecutorService? = null
-            private var isRunning = false
-            private var lastUpdateTime = System.nanoTime()
-
-            override fun execute(animation: AbstractAnimation) {
-                animations.add(animation)
-                if (!isRunning) {
-                    start()
+        return object : AbstractAnimationExecutor() {
+            @Volatile
+            private var future: ScheduledFuture<*>? = null
+            private val parallelUpdate = ParallelUpdate(this, SharedScheduler.parallelism, MIN_PARTITION_SIZE)
+            private val frameRunning = AtomicBoolean()
+            private val frameTask = Runnable {
+                try {
+                    onFrame(System.nanoTime())
+                } finally {
+                    frameRunning.set(false)
                 }
             }
 
-            private fun start() {
-                isRunning = true
-                lastUpdateTime = System.nanoTime()
+            override fun start() {
                 onStart?.invoke()
-
-                executor = if (parallel) {
-                    Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors())
-                } else {
-                    Executors.newSingleThreadScheduledExecutor()
+                if (attachToClock()) {
+                    return
                 }
+                markRunning()
 
-                executor?.scheduleAtFixedRate({
-                    val currentTime = System.nanoTime()
-                    val deltaTime = ((currentTime - lastUpdateTime) / 1_000_000_000.0).coerceAtMost(0.1)
-                    lastUpdateTime = currentTime
-
-                    onUpdate?.invoke(animations, deltaTime)
-                    animations.forEach { it.update(deltaTime) }
-                    animations.removeAll { it.isFinished() }
-
-                    if (animations.isEmpty()) {
-                        stop()
+                future = SharedScheduler.scheduler.scheduleAtFixedRate({
+                    if (frameRunning.compareAndSet(false, true)) {
+                        SharedScheduler.frames.execute(frameTask)
                     }
                 }, 0, updateRate, TimeUnit.MILLISECONDS)
             }
 
+            override fun tick(deltaTime: Double) {
+                onUpdate?.invoke(animations(), deltaTime)
+                if (!parallel || !parallelUpdate.tick(deltaTime, SharedScheduler.workers)) {
+                    super.tick(deltaTime)
+                }
+            }
+
+            override fun onIdle() {
+                val idleFuture = future
+                super.onIdle()
+                if (isRunning) return
+                idleFuture?.cancel(false)
+                onStop?.invoke()
+            }
+
             override fun stop() {
-                isRunning = false
+                super.stop()
                 onStop?.invoke()
-                executor?.shutdownNow()
-                executor = null
-                animations.clear()
+                future?.cancel(false)
+                future = null
             }
-        }
+        }.frameClock(frameClock)
     }
 }
 
+/**
+ * Minimum number of animations per partition before a parallel executor splits an update.
+ */
+private const val MIN_PARTITION_SIZE = 32
+
 /**
  * Creates a new animation executor with the specified configuration.
  *
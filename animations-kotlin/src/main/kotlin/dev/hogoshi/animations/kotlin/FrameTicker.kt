@@ -0,0 +1,114 @@
+package dev.hogoshi.animations.kotlin
+
+import dev.hogoshi.animations.core.FrameClock
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+
+/**
+ * Frame source that ticks a [FrameClock] from a coroutine on a single dedicated thread.
+ * Every executor subscribed to the clock is updated on that thread, so any number of
+ * animations share one thread and one timer. The ticker only runs while the clock has listeners.
+ *
+ * @param frameRate the target frames per second
+ */
+class FrameTicker(frameRate: Double = 60.0) {
+    /**
+     * The clock ticked by this ticker.
+     */
+    val clock = FrameClock()
+
+    @Volatile
+    private var thread: Thread? = null
+
+    private val executor = Executors.newSingleThreadExecutor { runnable ->
+        Thread(runnable, "Animation Frame Ticker").also {
+            it.isDaemon = true
+            thread = it
+        }
+    }
+
+    /**
+     * Dispatcher running on the ticker thread.
+     */
+    val dispatcher: CoroutineDispatcher = executor.asCoroutineDispatcher()
+
+    private val scope = CoroutineScope(SupervisorJob() + dispatcher)
+    private val frameIntervalNanos: Long
+    private var job: Job? = null
+
+    init {
+        require(frameRate > 0) { "Frame rate must be positive" }
+        frameIntervalNanos = (1_000_000_000L / frameRate).toLong()
+    }
+
+    /**
+     * Runs the block on the ticker thread, inline if already there.
+     *
+     * @param block the code to run
+     */
+    fun dispatch(block: () -> Unit) {
+        if (Thread.currentThread() === thread) {
+            block()
+        } else {
+            executor.execute(block)
+        }
+    }
+
+    /**
+     * Runs the block on the ticker thread and waits until it has run, inline if already there.
+     * Waiting is not interruptible; an interrupt is restored once the block has run.
+     *
+     * @param block the code to run
+     */
+    fun dispatchAndWait(block: () -> Unit) {
+        if (Thread.currentThread() === thread) {
+            block()
+            return
+        }
+        val task = executor.submit(Runnable(block))
+        var interrupted = false
+        try {
+            while (true) {
+                try {
+                    task.get()
+                    return
+                } catch (e: InterruptedException) {
+                    interrupted = true
+                } catch (e: ExecutionException) {
+                    throw e.cause ?: e
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt()
+        }
+    }
+
+    /**
+     * Starts ticking if the ticker is idle. Ticking stops by itself once the clock has no listeners.
+     */
+    fun wake() = dispatch {
+        if (job?.isActive == true) return@dispatch
+        job = scope.launch {
+            while (clock.hasListeners()) {
+                val frameStart = System.nanoTime()
+                clock.frame(frameStart)
+                val remaining = frameIntervalNanos - (System.nanoTime() - frameStart)
+                delay((remaining / 1_000_000L).coerceAtLeast(1))
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * Ticker shared by all coroutine executors that don't specify their own.
+         */
+        val Default: FrameTicker by lazy { FrameTicker() }
+    }
+}
@@ -1,18 +1,20 @@
 package dev.hogoshi.animations.kotlin
 
 import dev.hogoshi.animations.easing.Easing
+import dev.hogoshi.animations.easing.KeyFrameInterpolation
 import dev.hogoshi.animations.easing.KeyFramesEasing
 import dev.hogoshi.animations.model.KeyFrame
 
 class KeyFramesEasingBuilder {
     private val keyframes = mutableListOf<KeyFrame>()
+    var interpolation: KeyFrameInterpolation = KeyFrameInterpolation.LINEAR
 
     fun keyframe(time: Double, value: Double, easing: Easing? = null) {
         keyframes.add(KeyFrame(time, value, easing))
     }
 
     fun build(): Easing {
-        return KeyFramesEasing(keyframes)
+        return KeyFramesEasing(keyframes, interpolation)
     }
 }
 
@@ -0,0 +1,46 @@
+package dev.hogoshi.animations.kotlin
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Library-wide threads shared by all executors built with [ExecutorBuilder].
+ * All pools are created lazily on first use and run daemon threads, so they never keep the JVM alive.
+ */
+internal object SharedScheduler {
+    /**
+     * Number of worker threads used for parallel updates.
+     */
+    val parallelism: Int = Runtime.getRuntime().availableProcessors()
+
+    /**
+     * Single thread timing the frames of all built executors. It only hands frames to [frames], never runs them.
+     */
+    val scheduler: ScheduledExecutorService by lazy {
+        Executors.newSingleThreadScheduledExecutor(daemonThreads("Animation Scheduler"))
+    }
+
+    /**
+     * Threads running the frames of built executors, so a slow frame of one executor never delays another.
+     */
+    val frames: ExecutorService by lazy {
+        Executors.newCachedThreadPool(daemonThreads("Animation Frame"))
+    }
+
+    /**
+     * Worker threads updating partitions of parallel executors.
+     */
+    val workers: ExecutorService by lazy {
+        Executors.newFixedThreadPool(parallelism, daemonThreads("Animation Worker"))
+    }
+
+    private fun daemonThreads(name: String): ThreadFactory {
+        val counter = AtomicInteger()
+        return ThreadFactory { runnable ->
+            Thread(runnable, "$name ${counter.incrementAndGet()}").also { it.isDaemon = true }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.hogoshi.animations.kotlin
+
+import dev.hogoshi.animations.core.Animation
+import dev.hogoshi.animations.easing.Easings
+import dev.hogoshi.animations.model.AnimationConfig
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.async
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import kotlinx.coroutines.yield
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+
+class CoroutineAnimationExecutorTest {
+    @Test
+    fun playSuspendsUntilTheAnimationFinishes() = runBlocking {
+        val executor = CoroutineAnimationExecutor()
+        val animation = animation(0.05)
+        withTimeout(5_000) { executor.play(animation) }
+        assertTrue(animation.isFinished)
+        assertEquals(100.0, animation.currentValue(), 0.0)
+        executor.stop()
+    }
+
+    @Test
+    fun cancellingThePlayerCancelsTheAnimation() = runBlocking {
+        val executor = CoroutineAnimationExecutor()
+        val animation = animation(10.0)
+        val player = launch { executor.play(animation) }
+        withTimeout(5_000) {
+            while (executor.animations().isEmpty()) yield()
+        }
+        player.cancelAndJoin()
+        withTimeout(5_000) { animation.awaitCompletion() }
+        assertTrue(animation.completion().isDone)
+        executor.stop()
+    }
+
+    @Test
+    fun valuesEndWithTheFinalValue() = runBlocking {
+        val executor = CoroutineAnimationExecutor()
+        val animation = animation(0.05)
+        val values = async(start = CoroutineStart.UNDISPATCHED) { animation.values().toList() }
+        executor.execute(animation)
+        val collected = withTimeout(5_000) { values.await() }
+        assertEquals(100.0, collected.last(), 0.0)
+        executor.stop()
+    }
+
+    @Test
+    fun executingRightAfterStopIsNotCleared() = runBlocking {
+        val executor = CoroutineAnimationExecutor()
+        repeat(ROUNDS) {
+            executor.execute(animation(10.0))
+            executor.stop()
+            val animation = animation(0.01)
+            executor.execute(animation)
+            withTimeout(5_000) { animation.awaitCompletion() }
+            assertTrue(animation.isFinished, "The animation ran to its end instead of being cleared by stop()")
+        }
+        executor.stop()
+    }
+
+    private fun animation(duration: Double) =
+        Animation(AnimationConfig().duration(duration).easing(Easings.LINEAR), 0.0, 100.0)
+
+    private companion object {
+        const val ROUNDS = 50
+    }
+}
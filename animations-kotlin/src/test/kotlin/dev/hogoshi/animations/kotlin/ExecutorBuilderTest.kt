@@ -0,0 +1,46 @@
+package dev.hogoshi.animations.kotlin
+
+import dev.hogoshi.animations.core.Animation
+import dev.hogoshi.animations.model.AnimationConfig
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+
+class ExecutorBuilderTest {
+    @Test
+    fun slowUpdatesOnlyDelayTheirOwnExecutor() {
+        val slow = executor { onUpdate { _, _ -> Thread.sleep(SLOW_UPDATE_MILLIS) } }
+        val fast = executor { }
+        try {
+            slow.execute(animation(5.0))
+            Thread.sleep(50)
+            val start = System.nanoTime()
+            fast.execute(animation(0.05)).completion().get(5, TimeUnit.SECONDS)
+            val elapsedMillis = (System.nanoTime() - start) / 1_000_000
+            assertTrue(elapsedMillis < SLOW_UPDATE_MILLIS, "Finished after $elapsedMillis ms")
+        } finally {
+            slow.stop()
+            fast.stop()
+        }
+    }
+
+    @Test
+    fun parallelUpdatesFinishEveryAnimation() {
+        val executor = executor { parallel() }
+        try {
+            val completions = List(ANIMATIONS) { executor.execute(animation(0.05)).completion() }
+            CompletableFuture.allOf(*completions.toTypedArray()).get(5, TimeUnit.SECONDS)
+            assertTrue(completions.all { it.isDone })
+        } finally {
+            executor.stop()
+        }
+    }
+
+    private fun animation(duration: Double) = Animation(AnimationConfig().duration(duration), 0.0, 100.0)
+
+    private companion object {
+        const val SLOW_UPDATE_MILLIS = 400L
+        const val ANIMATIONS = 1_000
+    }
+}
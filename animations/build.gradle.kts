@@ -2,6 +2,11 @@ plugins {
     java
 }
 
+val java17: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java17")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
 dependencies {
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
@@ -9,6 +14,13 @@ dependencies {
 
     testCompileOnly(libs.lombok)
     testAnnotationProcessor(libs.lombok)
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+}
+
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
 }
 
 tasks.test {
@@ -17,4 +29,10 @@ tasks.test {
 
 tasks.jar {
     from(sourceSets.main.get().output)
+    into("META-INF/versions/17") {
+        from(java17.output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
 }
\ No newline at end of file
@@ -1,9 +1,17 @@
 package dev.hogoshi.animations.core;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+import org.jetbrains.annotations.NotNull;
 
 import dev.hogoshi.animations.model.AnimationConfig;
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -16,6 +24,11 @@ import lombok.experimental.Accessors;
 @Setter
 @Accessors(chain = true)
 public abstract class AbstractAnimation {
+    /**
+     * Shared empty listener array.
+     */
+    private static final DoubleConsumer[] NO_LISTENERS = new DoubleConsumer[0];
+
     /**
      * Configuration for the animation.
      */
@@ -26,6 +39,11 @@ public abstract class AbstractAnimation {
      */
     protected Consumer<Double> onUpdate;
 
+    /**
+     * Primitive callback function called on each animation update, without boxing the value.
+     */
+    protected DoubleConsumer onValue;
+
     /**
      * Callback function called when animation completes.
      */
@@ -46,6 +64,160 @@ public abstract class AbstractAnimation {
      */
     protected double delay = 0;
 
+    /**
+     * Whether the animation is paused through its handle and skipped by the executor.
+     */
+    @Setter(AccessLevel.NONE)
+    protected volatile boolean paused = false;
+
+    /**
+     * Whether the animation was cancelled through its handle and waits to be dropped by the executor.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    volatile boolean cancelled = false;
+
+    /**
+     * Slot of the animation in its executor's store, or -1 if it is not running in an executor.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int slot = -1;
+
+    /**
+     * Generation of the slot while the animation is stored, kept so the executor thread can read it without the store's lock.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int generation;
+
+    /**
+     * Group the animation belongs to, used by executors to pause, resume or cancel related animations together.
+     */
+    @Setter(AccessLevel.NONE)
+    protected Object group;
+
+    /**
+     * Group index entry of the store the animation is running in, or null if it is not indexed.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    AnimationStore.Group groupEntry;
+
+    /**
+     * Position of the animation among the members of its group index entry.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int groupPosition = -1;
+
+    /**
+     * Time domain scaling and pausing the animation, or null to follow the executor's time directly.
+     */
+    @Setter(AccessLevel.NONE)
+    protected TimeDomain timeDomain;
+
+    /**
+     * Time domain bucket of the store the animation is running in, or null if it is not stored.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    AnimationStore.Group domainEntry;
+
+    /**
+     * Position of the animation among the members of its time domain bucket.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int domainPosition = -1;
+
+    /**
+     * Priority class deciding how often the animation is updated when the executor is over its frame budget.
+     */
+    protected AnimationPriority priority = AnimationPriority.NORMAL;
+
+    /**
+     * Time in seconds the executor skipped for this animation, applied with the next update.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    double deferredTime = 0;
+
+    /**
+     * Step the reported values are rounded to, or 0 to report raw values.
+     */
+    protected double quantization = 0;
+
+    /**
+     * Minimum change of the reported value that triggers the update callback.
+     */
+    protected double threshold = 0;
+
+    /**
+     * Number of update callbacks skipped because the reported value did not change enough.
+     */
+    @Setter(AccessLevel.NONE)
+    protected long suppressedUpdates = 0;
+
+    /**
+     * Last value passed to the update callback, or NaN if none was reported since the animation started.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    double lastReportedValue = Double.NaN;
+
+    /**
+     * Dispatcher receiving this animation's callbacks instead of running them inline, set by the executor.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    CallbackDispatcher dispatcher;
+
+    /**
+     * Value listeners added next to the update callbacks. Replaced as a whole under the animation's monitor,
+     * so delivering updates never locks or allocates.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile DoubleConsumer[] valueListeners = NO_LISTENERS;
+
+    /**
+     * Future completed once the animation leaves its executor, created on demand through {@link #completion()}.
+     * Guarded by the animation's monitor.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    CompletableFuture<Void> completion;
+
+    /**
+     * Gets a future completed once the animation leaves the executor running it: when it finishes, is interrupted,
+     * is cancelled or the executor is stopped. Requested before the animation is executed, it completes when that
+     * execution ends. Executors complete the futures of all animations that ended in a tick together at its end.
+     * The future is created on the first call, so animations nobody waits for don't pay for it.
+     *
+     * @return the completion future, already completed if the animation ended and was not executed again
+     */
+    public synchronized @NotNull CompletableFuture<Void> completion() {
+        if (completion == null) {
+            if (slot < 0 && (cancelled || isDone())) {
+                return CompletableFuture.completedFuture(null);
+            }
+            completion = new CompletableFuture<>();
+        }
+        return completion;
+    }
+
+    /**
+     * Hands the completion future to an executor that just removed the animation.
+     *
+     * @return the future to complete, or null if nobody requested one
+     */
+    synchronized CompletableFuture<Void> takeCompletion() {
+        CompletableFuture<Void> taken = completion;
+        completion = null;
+        return taken;
+    }
+
     /**
      * Sets a delay before the animation starts.
      *
@@ -57,6 +229,70 @@ public abstract class AbstractAnimation {
         return this;
     }
 
+    /**
+     * Assigns the animation to a group, e.g. the screen or panel it belongs to.
+     * Takes effect the next time the animation is executed.
+     *
+     * @param group group key compared with equals, or null for no group
+     * @return this animation instance for method chaining
+     */
+    public AbstractAnimation withGroup(Object group) {
+        this.group = group;
+        return this;
+    }
+
+    /**
+     * Attaches the animation to a time domain. Takes effect the next time the animation is executed.
+     *
+     * @param timeDomain time domain, or null to follow the executor's time directly
+     * @return this animation instance for method chaining
+     */
+    public AbstractAnimation withTimeDomain(TimeDomain timeDomain) {
+        this.timeDomain = timeDomain;
+        return this;
+    }
+
+    /**
+     * Sets the priority class of the animation.
+     *
+     * @param priority priority class
+     * @return this animation instance for method chaining
+     * @throws IllegalArgumentException if priority is null
+     */
+    public AbstractAnimation withPriority(AnimationPriority priority) {
+        Validator.requireNonNull(priority, "Priority cannot be null");
+        this.priority = priority;
+        return this;
+    }
+
+    /**
+     * Rounds the reported values to multiples of the given step, e.g. {@code 1.0} for whole pixels
+     * or {@code 1 / devicePixelRatio} for physical pixels. Updates that round to the last reported value are skipped.
+     *
+     * @param step quantization step, or 0 to report raw values
+     * @return this animation instance for method chaining
+     * @throws IllegalArgumentException if step is negative
+     */
+    public AbstractAnimation withQuantization(double step) {
+        Validator.requireInRange(step, 0, Double.MAX_VALUE, "Quantization step must be non-negative");
+        this.quantization = step;
+        return this;
+    }
+
+    /**
+     * Skips update callbacks until the reported value moved by at least the given amount.
+     * The final value of the animation is always reported.
+     *
+     * @param threshold minimum change of the value, or 0 to report every change
+     * @return this animation instance for method chaining
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public AbstractAnimation withThreshold(double threshold) {
+        Validator.requireInRange(threshold, 0, Double.MAX_VALUE, "Threshold must be non-negative");
+        this.threshold = threshold;
+        return this;
+    }
+
     /**
      * Sets the callback function to be called on each animation update.
      *
@@ -68,6 +304,52 @@ public abstract class AbstractAnimation {
         return this;
     }
 
+    /**
+     * Sets a primitive callback function to be called on each animation update.
+     * Unlike {@link #onUpdate(Consumer)} the value is not boxed, so updates don't allocate.
+     *
+     * @param onValue callback function that receives the current animation value
+     * @return this animation instance for method chaining
+     */
+    public AbstractAnimation onValue(DoubleConsumer onValue) {
+        this.onValue = onValue;
+        return this;
+    }
+
+    /**
+     * Adds a listener receiving every update next to the update callbacks, e.g. for observers that must not
+     * replace the callbacks set by the animation's owner. Safe to call from any thread.
+     *
+     * @param listener listener receiving the current animation value
+     * @throws IllegalArgumentException if listener is null
+     */
+    public synchronized void addValueListener(@NotNull DoubleConsumer listener) {
+        Validator.requireNonNull(listener, "Listener cannot be null");
+        DoubleConsumer[] listeners = Arrays.copyOf(valueListeners, valueListeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        valueListeners = listeners;
+    }
+
+    /**
+     * Removes a listener added with {@link #addValueListener(DoubleConsumer)}. Safe to call from any thread.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was registered
+     */
+    public synchronized boolean removeValueListener(@NotNull DoubleConsumer listener) {
+        DoubleConsumer[] listeners = valueListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                DoubleConsumer[] remaining = listeners.length == 1 ? NO_LISTENERS : new DoubleConsumer[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, listeners.length - i - 1);
+                valueListeners = remaining;
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Sets the callback function to be called when animation completes.
      *
@@ -79,6 +361,137 @@ public abstract class AbstractAnimation {
         return this;
     }
 
+    /**
+     * Reports a new value, either to the callback directly or through the executor's dispatcher.
+     * The value is quantized first and skipped if it did not change by at least the threshold.
+     *
+     * @param value the current animation value
+     */
+    protected void fireUpdate(double value) {
+        double reported = quantize(value);
+        if (reported == lastReportedValue || Math.abs(reported - lastReportedValue) < threshold) {
+            suppressedUpdates++;
+            return;
+        }
+        report(reported);
+    }
+
+    /**
+     * Reports the final value of the animation, bypassing the threshold so the end state is never lost.
+     * Only an unchanged quantized value is skipped.
+     *
+     * @param value the final animation value
+     */
+    protected void fireFinalUpdate(double value) {
+        double reported = quantize(value);
+        if (reported == lastReportedValue) {
+            suppressedUpdates++;
+        } else {
+            report(reported);
+        }
+        lastReportedValue = Double.NaN;
+    }
+
+    /**
+     * Rounds the value to the quantization step.
+     *
+     * @param value the raw animation value
+     * @return the value to report
+     */
+    private double quantize(double value) {
+        return quantization > 0 ? Math.round(value / quantization) * quantization : value;
+    }
+
+    /**
+     * Remembers and delivers a value that passed the filters.
+     *
+     * @param value the value to report
+     */
+    private void report(double value) {
+        lastReportedValue = value;
+        if (dispatcher != null) {
+            dispatcher.dispatchUpdate(this, value);
+        } else {
+            deliverUpdate(value);
+        }
+    }
+
+    /**
+     * Reports completion, either to the callback directly or through the executor's dispatcher.
+     */
+    protected void fireComplete() {
+        if (dispatcher != null) {
+            dispatcher.dispatchComplete(this);
+        } else {
+            deliverComplete();
+        }
+    }
+
+    /**
+     * Invokes the update callbacks and value listeners. Subclasses may override this to translate the value before delivery.
+     *
+     * @param value the current animation value
+     */
+    protected void deliverUpdate(double value) {
+        if (onValue != null) {
+            onValue.accept(value);
+        }
+        if (onUpdate != null) {
+            onUpdate.accept(value);
+        }
+        for (DoubleConsumer listener : valueListeners) {
+            listener.accept(value);
+        }
+    }
+
+    /**
+     * Invokes the completion callback.
+     */
+    protected void deliverComplete() {
+        if (onComplete != null) {
+            onComplete.run();
+        }
+    }
+
+    /**
+     * Gets the size of the state written by {@link #writeState(ByteBuffer)}.
+     * Subclasses adding state add their size to the result of the super call.
+     *
+     * @return the state size in bytes
+     */
+    protected int stateSize() {
+        return Double.BYTES * 4 + 1;
+    }
+
+    /**
+     * Writes the playback state of the animation, e.g. to restore it in another executor or JVM.
+     * Configuration and callbacks are not part of the state. Subclasses call the super method first.
+     *
+     * @param out buffer receiving {@link #stateSize()} bytes
+     */
+    protected void writeState(ByteBuffer out) {
+        out.putDouble(currentTime);
+        out.put((byte) ((isRunning ? 1 : 0) | (paused ? 2 : 0)));
+        out.putDouble(delay);
+        out.putDouble(deferredTime);
+        out.putDouble(lastReportedValue);
+    }
+
+    /**
+     * Reads the playback state written by {@link #writeState(ByteBuffer)}. Subclasses call the super method first.
+     *
+     * @param in buffer holding the state
+     */
+    protected void readState(ByteBuffer in) {
+        currentTime = in.getDouble();
+        byte flags = in.get();
+        isRunning = (flags & 1) != 0;
+        paused = (flags & 2) != 0;
+        delay = in.getDouble();
+        deferredTime = in.getDouble();
+        lastReportedValue = in.getDouble();
+    }
+
     /**
      * Updates the animation state based on the elapsed time.
      *
@@ -86,6 +499,14 @@ public abstract class AbstractAnimation {
      */
     public abstract void update(double deltaTime);
 
+    /**
+     * Called instead of {@link #update(double)} when the executor defers the animation to a later frame,
+     * which adds the skipped time to the next update. Animations keeping the value before their last update
+     * for blending drop it here, so a deferred frame blends to the current value.
+     */
+    protected void skipUpdate() {
+    }
+
     /**
      * Checks if the animation has finished.
      *
@@ -93,6 +514,16 @@ public abstract class AbstractAnimation {
      */
     public abstract boolean isFinished();
 
+    /**
+     * Checks whether the animation has stopped for good and the executor can drop it,
+     * either because it finished or because it was stopped early.
+     *
+     * @return true if the animation will not update anymore
+     */
+    boolean isDone() {
+        return isFinished() && !isRunning;
+    }
+
     /**
      * Resets the animation to its initial state.
      */
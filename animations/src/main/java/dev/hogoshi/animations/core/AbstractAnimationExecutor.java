@@ -0,0 +1,690 @@
+package dev.hogoshi.animations.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Abstract base class for animation executors.
+ * Keeps the store of running animations and the update logic, while subclasses decide when updates happen:
+ * in a loop, on a timer, on demand or from a shared {@link FrameClock}.
+ */
+@Getter
+@Accessors(chain = true, fluent = true)
+public abstract class AbstractAnimationExecutor implements AnimationExecutor, FrameClock.Listener {
+    /**
+     * Upper bound for a single update step in seconds, so stalls don't make animations jump.
+     */
+    public static final double MAX_DELTA_TIME = 0.1;
+
+    /**
+     * Number of updates between two reads of the clock while a frame budget applies.
+     */
+    private static final int BUDGET_CHECK_INTERVAL = 16;
+
+    /**
+     * Store of currently running animations.
+     */
+    @Getter(AccessLevel.NONE)
+    protected final AnimationStore store = new AnimationStore();
+
+    /**
+     * Whether the executor is currently running.
+     */
+    protected volatile boolean isRunning = false;
+
+    /**
+     * Timestamp of the last animation update.
+     */
+    @Getter(AccessLevel.NONE)
+    protected long lastUpdateTime;
+
+    /**
+     * Frame clock driving this executor, or null if the executor uses its own timing.
+     */
+    protected FrameClock frameClock;
+
+    /**
+     * Time in seconds a single tick may take before lower priority animations are deferred, or 0 for no budget.
+     */
+    protected double frameBudget = 0;
+
+    /**
+     * Whether the previous tick exceeded the frame budget, making lower priority classes update at reduced rates.
+     */
+    protected boolean overloaded = false;
+
+    /**
+     * Number of animation updates deferred during the previous tick.
+     */
+    protected int lastFrameDeferred = 0;
+
+    /**
+     * Recorder logging ticks, executions, updates and removals, or null if recording is off.
+     */
+    protected TickRecorder recorder;
+
+    /**
+     * Snapshot receiving the animations' values after every tick, or null if values are not published.
+     */
+    protected ValueSnapshot valueSnapshot;
+
+    /**
+     * Dispatcher delivering callbacks off the tick, or null to run them inline.
+     */
+    protected CoalescingDispatcher coalescingDispatcher;
+
+    /**
+     * Number of ticks run under a frame budget, used to pick the frames on which reduced rate classes update.
+     */
+    @Getter(AccessLevel.NONE)
+    private long frameIndex;
+
+    /**
+     * Number of update callbacks the animations of this executor skipped because the visible value did not change.
+     * A LongAdder since parallel executors update animations from several threads.
+     */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder suppressedUpdates = new LongAdder();
+
+    /**
+     * Completion futures of the animations removed during the current tick, completed together at its end.
+     */
+    @Getter(AccessLevel.NONE)
+    private CompletableFuture<?>[] completions = new CompletableFuture<?>[8];
+
+    /**
+     * Animations the pending completion futures belong to.
+     */
+    @Getter(AccessLevel.NONE)
+    private AbstractAnimation[] completedAnimations = new AbstractAnimation[8];
+
+    /**
+     * Number of pending completion futures.
+     */
+    @Getter(AccessLevel.NONE)
+    private int completionCount;
+
+    /**
+     * Whether the next clock frame only establishes the time base.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean awaitingFirstFrame;
+
+    /**
+     * Makes this executor follow the given frame clock instead of its own timer or loop.
+     * Takes effect the next time the executor starts.
+     *
+     * @param frameClock frame clock to subscribe to, or null to use the executor's own timing
+     * @return this executor instance for method chaining
+     */
+    public @NotNull AbstractAnimationExecutor frameClock(@Nullable FrameClock frameClock) {
+        this.frameClock = frameClock;
+        return this;
+    }
+
+    /**
+     * Limits the time a single tick may take. Once the budget is spent, the non-critical animations not yet visited
+     * are deferred to a later frame, and while the executor is overloaded the lower priority classes only
+     * update every few frames with a larger time step. Critical animations always update every frame.
+     * Only applies to sequential updates.
+     *
+     * @param frameBudget budget in seconds, or 0 to update every animation every frame
+     * @return this executor instance for method chaining
+     * @throws IllegalArgumentException if frameBudget is negative
+     */
+    public @NotNull AbstractAnimationExecutor frameBudget(double frameBudget) {
+        Validator.requireInRange(frameBudget, 0, Double.MAX_VALUE, "Frame budget must be non-negative");
+        this.frameBudget = frameBudget;
+        return this;
+    }
+
+    /**
+     * Records the ticks of this executor to the given recorder.
+     *
+     * @param recorder recorder to write to, or null to stop recording
+     * @return this executor instance for method chaining
+     */
+    public @NotNull AbstractAnimationExecutor recorder(@Nullable TickRecorder recorder) {
+        this.recorder = recorder;
+        return this;
+    }
+
+    /**
+     * Publishes the values of this executor's animations to the given snapshot after every tick,
+     * so other threads can read them consistently. A snapshot must only be installed in one executor.
+     *
+     * @param valueSnapshot snapshot to publish to, or null to stop publishing
+     * @return this executor instance for method chaining
+     */
+    public @NotNull AbstractAnimationExecutor valueSnapshot(@Nullable ValueSnapshot valueSnapshot) {
+        this.valueSnapshot = valueSnapshot;
+        return this;
+    }
+
+    /**
+     * Delivers the update and completion callbacks of animations executed from now on through the given executor,
+     * so slow callbacks don't delay the tick. Callbacks of an animation that fall behind are coalesced to its latest
+     * value; {@code coalescingDispatcher()} reports how many updates were dropped. Completion futures of these
+     * animations complete on the callback executor too, once the completion callback was delivered.
+     *
+     * @param callbackExecutor executor running the callbacks, or null to run them inline during the tick
+     * @return this executor instance for method chaining
+     */
+    public @NotNull AbstractAnimationExecutor callbackExecutor(@Nullable Executor callbackExecutor) {
+        this.coalescingDispatcher = callbackExecutor != null ? new CoalescingDispatcher(callbackExecutor) : null;
+        return this;
+    }
+
+    /**
+     * Executes the given animation.
+     *
+     * @param animation the animation to execute
+     * @return a handle to cancel, pause or resume the animation
+     * @throws IllegalArgumentException if animation is null or already running in an executor
+     */
+    @Override
+    public @NotNull AnimationHandle execute(@NotNull AbstractAnimation animation) {
+        Validator.requireNonNull(animation, "Animation cannot be null");
+        animation.deferredTime = 0;
+        bindDispatcher(animation);
+        AnimationHandle handle = store.add(animation);
+        TickRecorder recorder = this.recorder;
+        if (recorder != null) {
+            recorder.executed(animation);
+        }
+        // read after adding: onIdle() only stops while the store is empty, so either it sees this animation or we see it stopped
+        if (!isRunning) {
+            start();
+        }
+        return handle;
+    }
+
+    /**
+     * Routes the callbacks of an animation about to be stored through this executor's coalescing dispatcher,
+     * or back to inline delivery. Dispatchers installed by subclasses and animations stored elsewhere are left alone.
+     *
+     * @param animation the animation to execute
+     */
+    private void bindDispatcher(AbstractAnimation animation) {
+        CallbackDispatcher dispatcher = animation.dispatcher;
+        if (animation.slot < 0 && (dispatcher == null || dispatcher instanceof CoalescingDispatcher.Mailbox)) {
+            CoalescingDispatcher coalescingDispatcher = this.coalescingDispatcher;
+            animation.dispatcher = coalescingDispatcher != null ? coalescingDispatcher.mailbox(animation) : null;
+        }
+    }
+
+    /**
+     * Saves the playback state of every running animation the binder has an id for into a compact binary snapshot,
+     * e.g. before a scene is hot-reloaded or a session moves to another JVM.
+     * Call it between ticks, on the thread updating this executor.
+     *
+     * @param binder maps animations to the ids their states are saved under
+     * @return the snapshot
+     * @throws IllegalArgumentException if binder is null
+     */
+    public @NotNull byte[] snapshot(@NotNull AnimationBinder binder) {
+        Validator.requireNonNull(binder, "Binder cannot be null");
+        return ExecutorSnapshot.write(store, binder);
+    }
+
+    /**
+     * Restores a snapshot taken by {@link #snapshot(AnimationBinder)}, running each restored animation
+     * from exactly where it was saved. Animations are added first and the executor is started once afterwards.
+     *
+     * @param snapshot the snapshot
+     * @param binder   provides a fresh animation for each saved id
+     * @return the number of restored animations
+     * @throws IllegalArgumentException if an argument is null, the data is not a snapshot,
+     *                                  is truncated or corrupt, or a saved state doesn't match the animation provided for it
+     */
+    public int restore(@NotNull byte[] snapshot, @NotNull AnimationBinder binder) {
+        Validator.requireNonNull(snapshot, "Snapshot cannot be null");
+        Validator.requireNonNull(binder, "Binder cannot be null");
+        int restored = ExecutorSnapshot.read(snapshot, binder, animation -> {
+            boolean paused = animation.paused;
+            bindDispatcher(animation);
+            store.add(animation);
+            animation.paused = paused;
+            TickRecorder recorder = this.recorder;
+            if (recorder != null) {
+                recorder.executed(animation);
+            }
+        });
+        if (!isRunning && !store.isEmpty()) {
+            start();
+        }
+        return restored;
+    }
+
+    /**
+     * Gets the timestamp of the last animation update.
+     *
+     * @return the timestamp in nanoseconds
+     */
+    public long lastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    /**
+     * Gets a read-only view of the running animations.
+     *
+     * @return the running animations
+     */
+    public @NotNull List<AbstractAnimation> animations() {
+        return store.asList();
+    }
+
+    /**
+     * Cancels every running animation of the given group without calling their completion callbacks.
+     *
+     * @param group group key set with {@link AbstractAnimation#withGroup(Object)}
+     * @return the number of cancelled animations
+     * @throws IllegalArgumentException if group is null
+     */
+    public int cancelGroup(@NotNull Object group) {
+        Validator.requireNonNull(group, "Group cannot be null");
+        return store.cancelGroup(group);
+    }
+
+    /**
+     * Pauses every running animation of the given group.
+     *
+     * @param group group key set with {@link AbstractAnimation#withGroup(Object)}
+     * @return the number of paused animations
+     * @throws IllegalArgumentException if group is null
+     */
+    public int pauseGroup(@NotNull Object group) {
+        Validator.requireNonNull(group, "Group cannot be null");
+        return store.setGroupPaused(group, true);
+    }
+
+    /**
+     * Resumes every running animation of the given group.
+     *
+     * @param group group key set with {@link AbstractAnimation#withGroup(Object)}
+     * @return the number of resumed animations
+     * @throws IllegalArgumentException if group is null
+     */
+    public int resumeGroup(@NotNull Object group) {
+        Validator.requireNonNull(group, "Group cannot be null");
+        return store.setGroupPaused(group, false);
+    }
+
+    /**
+     * Counts the running animations of the given group.
+     *
+     * @param group group key set with {@link AbstractAnimation#withGroup(Object)}
+     * @return the number of running animations in the group
+     * @throws IllegalArgumentException if group is null
+     */
+    public int count(@NotNull Object group) {
+        Validator.requireNonNull(group, "Group cannot be null");
+        return store.count(group);
+    }
+
+    /**
+     * Starts processing animations.
+     */
+    protected abstract void start();
+
+    /**
+     * Marks the executor as running and resets the time base to now.
+     */
+    protected void markRunning() {
+        isRunning = true;
+        lastUpdateTime = System.nanoTime();
+    }
+
+    /**
+     * Subscribes to the frame clock if one is configured.
+     *
+     * @return true if the executor is now driven by the frame clock, false if it should use its own timing
+     */
+    protected boolean attachToClock() {
+        if (frameClock == null) {
+            return false;
+        }
+        isRunning = true;
+        awaitingFirstFrame = true;
+        frameClock.subscribe(this);
+        return true;
+    }
+
+    /**
+     * Advances the animations to the given frame timestamp.
+     * The first frame after attaching to a clock only establishes the time base.
+     * The executor stops itself once no animations are left.
+     *
+     * @param frameTimeNanos frame timestamp in nanoseconds
+     */
+    @Override
+    public void onFrame(long frameTimeNanos) {
+        if (!isRunning) return;
+        if (awaitingFirstFrame) {
+            awaitingFirstFrame = false;
+            lastUpdateTime = frameTimeNanos;
+            return;
+        }
+
+        double deltaTime = advanceTime(frameTimeNanos);
+        if (deltaTime > 0) {
+            tick(deltaTime);
+        }
+
+        if (store.isEmpty()) {
+            onIdle();
+        }
+    }
+
+    /**
+     * Called after a frame left no animations to process. Marks the executor as not running and leaves the frame clock,
+     * unless another thread executed an animation meanwhile. The check holds the store's lock, so an animation
+     * added concurrently is either seen here or finds the executor stopped and starts it again.
+     * Unlike {@link #stop()}, nothing is cleared.
+     */
+    protected void onIdle() {
+        synchronized (store) {
+            if (!store.isEmpty()) return;
+            isRunning = false;
+            if (frameClock != null) {
+                frameClock.unsubscribe(this);
+            }
+        }
+    }
+
+    /**
+     * Moves the time base to the given timestamp.
+     *
+     * @param currentTime current timestamp in nanoseconds
+     * @return time elapsed since the last update in seconds, capped at {@link #MAX_DELTA_TIME}
+     */
+    protected double advanceTime(long currentTime) {
+        double deltaTime = (currentTime - lastUpdateTime) / 1_000_000_000.0;
+        lastUpdateTime = currentTime;
+        return Math.min(deltaTime, MAX_DELTA_TIME);
+    }
+
+    /**
+     * Advances all animations by the given time step instead of following the clock,
+     * e.g. to replay recorded ticks with {@link TickReplayer} or to step through animations in tests.
+     * Meant for executors that don't tick on their own, such as a {@link RenderAnimationExecutor} that is not updated.
+     *
+     * @param deltaTime time step in seconds
+     * @throws IllegalArgumentException if deltaTime is not positive
+     */
+    public void advance(double deltaTime) {
+        Validator.requirePositive(deltaTime, "Delta time must be positive");
+        lastUpdateTime += (long) (deltaTime * 1_000_000_000L);
+        tick(deltaTime);
+    }
+
+    /**
+     * Updates all animations and removes the finished and cancelled ones as they are visited.
+     * Animations are visited one time domain at a time, resolving the domain's scale once and skipping paused domains.
+     * Within a domain they are visited from the back, so removing one only moves an animation that was already updated.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    protected void tick(double deltaTime) {
+        recordTick(deltaTime);
+        updateAll(deltaTime);
+        publishValues();
+        completeFutures();
+    }
+
+    /**
+     * Runs the update pass of {@link #tick(double)} without recording the tick, publishing values or completing futures,
+     * for subclasses that wrap the updates in their own synchronization.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    protected void updateAll(double deltaTime) {
+        if (store.takeCancellations()) {
+            removeCancelledInPausedDomains();
+        }
+        if (frameBudget > 0) {
+            tickWithinBudget(deltaTime);
+        } else {
+            for (int b = store.bucketCount() - 1; b >= 0; b--) {
+                AnimationStore.Group bucket = store.bucket(b);
+                double step = deltaTime * timeScale(bucket.domain());
+                if (step <= 0) continue;
+                for (int i = bucket.size() - 1; i >= 0; i--) {
+                    AbstractAnimation animation = bucket.get(i);
+                    updateAnimation(animation, step);
+                    removeIfDone(animation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes cancelled animations from the domains the tick skips because their time scale is 0,
+     * so cancelling a paused animation still takes effect and completes its future.
+     */
+    private void removeCancelledInPausedDomains() {
+        for (int b = store.bucketCount() - 1; b >= 0; b--) {
+            AnimationStore.Group bucket = store.bucket(b);
+            if (timeScale(bucket.domain()) > 0) continue;
+            for (int i = bucket.size() - 1; i >= 0; i--) {
+                AbstractAnimation animation = bucket.get(i);
+                if (animation.cancelled) {
+                    removeIfDone(animation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the animations in a single pass, deferring non-critical ones once the budget is spent
+     * or when their class is not due this frame. Deferred time is added to the animation's next update.
+     * The clock is read every {@link #BUDGET_CHECK_INTERVAL} updates rather than after each one.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    private void tickWithinBudget(double deltaTime) {
+        long startTime = System.nanoTime();
+        long budgetNanos = (long) (frameBudget * 1_000_000_000L);
+        long frame = frameIndex++;
+        boolean wasOverloaded = overloaded;
+        int deferred = 0;
+        int updates = 0;
+        boolean overBudget = false;
+
+        for (int b = store.bucketCount() - 1; b >= 0; b--) {
+            AnimationStore.Group bucket = store.bucket(b);
+            double scaledDelta = deltaTime * timeScale(bucket.domain());
+            if (scaledDelta <= 0) continue;
+            for (int i = bucket.size() - 1; i >= 0; i--) {
+                AbstractAnimation animation = bucket.get(i);
+                if (animation.paused || animation.cancelled) {
+                    removeIfDone(animation);
+                    continue;
+                }
+
+                int stride = animation.priority.overloadStride();
+                if (stride > 1 && (overBudget || wasOverloaded && frame % stride != 0)) {
+                    animation.deferredTime += scaledDelta;
+                    animation.skipUpdate();
+                    deferred++;
+                    continue;
+                }
+                double step = scaledDelta + animation.deferredTime;
+                animation.deferredTime = 0;
+                updateAnimation(animation, step);
+                removeIfDone(animation);
+                if (!overBudget && ++updates % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - startTime > budgetNanos) {
+                    overBudget = true;
+                }
+            }
+        }
+
+        overloaded = overBudget || System.nanoTime() - startTime > budgetNanos;
+        lastFrameDeferred = deferred;
+    }
+
+    /**
+     * Records the start of a tick if a recorder is installed. Subclasses replacing {@link #tick(double)} call this first.
+     *
+     * @param deltaTime time step of the tick in seconds
+     */
+    protected void recordTick(double deltaTime) {
+        TickRecorder recorder = this.recorder;
+        if (recorder != null) {
+            recorder.tick(lastUpdateTime, deltaTime);
+        }
+    }
+
+    /**
+     * Publishes the animations' values if a value snapshot is installed. Subclasses replacing {@link #tick(double)}
+     * call this once the animations are updated.
+     */
+    protected void publishValues() {
+        ValueSnapshot valueSnapshot = this.valueSnapshot;
+        if (valueSnapshot != null) {
+            valueSnapshot.publish(store);
+        }
+    }
+
+    /**
+     * Completes the futures of the animations removed during the tick in one batch.
+     * Animations delivering their callbacks through the {@link CoalescingDispatcher} get their futures completed by
+     * their mailbox instead, after the completion callback. Subclasses replacing {@link #tick(double)} call this last.
+     */
+    protected void completeFutures() {
+        int count = completionCount;
+        completionCount = 0;
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<?> completion = completions[i];
+            AbstractAnimation animation = completedAnimations[i];
+            completions[i] = null;
+            completedAnimations[i] = null;
+            if (!CoalescingDispatcher.complete(animation, completion)) {
+                completion.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Removes the animations that have finished running or were cancelled.
+     * Used after updates that ran outside the tick loop, e.g. in parallel.
+     */
+    protected void removeFinished() {
+        for (int i = store.size() - 1; i >= 0; i--) {
+            removeIfDone(store.get(i));
+        }
+    }
+
+    /**
+     * Removes the animation if it finished running, was interrupted or was cancelled.
+     *
+     * @param animation the animation to check
+     */
+    private void removeIfDone(AbstractAnimation animation) {
+        if (animation.cancelled || animation.isDone()) {
+            int slot = animation.slot;
+            ValueSnapshot valueSnapshot = this.valueSnapshot;
+            if (valueSnapshot != null && slot >= 0) {
+                valueSnapshot.removing(animation);
+            }
+            store.remove(animation);
+            CompletableFuture<Void> completion = animation.takeCompletion();
+            if (completion != null) {
+                if (completionCount == completions.length) {
+                    completions = Arrays.copyOf(completions, completionCount * 2);
+                    completedAnimations = Arrays.copyOf(completedAnimations, completionCount * 2);
+                }
+                completions[completionCount] = completion;
+                completedAnimations[completionCount++] = animation;
+            }
+            TickRecorder recorder = this.recorder;
+            if (recorder != null) {
+                recorder.removed(slot, animation.cancelled);
+            }
+            onRemoved(animation);
+        }
+    }
+
+    /**
+     * Computes the time step of an animation outside the tick loop, e.g. for parallel updates,
+     * applying the scale of the time domain it was executed in.
+     *
+     * @param animation the animation to update
+     * @param deltaTime time elapsed since last update in seconds
+     * @return the scaled time step, 0 if the animation's time domain is paused
+     */
+    protected double scaledDelta(@NotNull AbstractAnimation animation, double deltaTime) {
+        AnimationStore.Group bucket = animation.domainEntry;
+        return bucket == null ? deltaTime : deltaTime * timeScale(bucket.domain());
+    }
+
+    /**
+     * Resolves the effective scale of a time domain.
+     *
+     * @param domain the time domain, or null for animations without one
+     * @return the effective time scale
+     */
+    private static double timeScale(@Nullable TimeDomain domain) {
+        return domain == null ? 1.0 : domain.effectiveScale();
+    }
+
+    /**
+     * Called after a finished or cancelled animation was removed from the store.
+     *
+     * @param animation the removed animation
+     */
+    protected void onRemoved(@NotNull AbstractAnimation animation) {
+    }
+
+    /**
+     * Updates a single animation unless it is paused or cancelled. Subclasses may override this to observe every update.
+     *
+     * @param animation the animation to update
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    protected void updateAnimation(@NotNull AbstractAnimation animation, double deltaTime) {
+        if (animation.paused || animation.cancelled) return;
+        long suppressedBefore = animation.suppressedUpdates;
+        animation.update(deltaTime);
+        TickRecorder recorder = this.recorder;
+        if (recorder != null) {
+            recorder.updated(animation);
+        }
+        long suppressed = animation.suppressedUpdates - suppressedBefore;
+        if (suppressed > 0) {
+            suppressedUpdates.add(suppressed);
+        }
+    }
+
+    /**
+     * Gets how many update callbacks were skipped by quantization and change thresholds since this executor was created.
+     *
+     * @return the number of suppressed updates
+     */
+    public long suppressedUpdates() {
+        return suppressedUpdates.sum();
+    }
+
+    /**
+     * Stops all running animations and cleans up resources.
+     */
+    @Override
+    public void stop() {
+        isRunning = false;
+        store.clear();
+        if (frameClock != null) {
+            frameClock.unsubscribe(this);
+        }
+    }
+}
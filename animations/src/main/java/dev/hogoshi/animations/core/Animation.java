@@ -1,12 +1,15 @@
 package dev.hogoshi.animations.core;
 
+import java.nio.ByteBuffer;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import dev.hogoshi.animations.model.AnimationConfig;
 import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
@@ -18,10 +21,17 @@ import lombok.experimental.Accessors;
 @Accessors(chain = true)
 public class Animation extends AbstractAnimation {
     /**
-     * Current interpolated value of the animation.
+     * Current interpolated value of the animation, as of the last update.
      */
+    @Getter(AccessLevel.NONE)
     private double currentValue;
 
+    /**
+     * Value of the animation before the last update, used to interpolate between fixed simulation steps.
+     */
+    @Getter(AccessLevel.NONE)
+    private double previousValue;
+
     /**
      * Start value of the animation.
      */
@@ -37,6 +47,19 @@ public class Animation extends AbstractAnimation {
      */
     private double elapsedTime = 0;
 
+    /**
+     * Clock timestamp at which the animation starts moving when evaluated on read, or -1 if it is updated by ticks.
+     * Volatile so paint threads reading {@link #valueAt(long)} see the state published by the executor thread.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile long startTimeNanos = -1;
+
+    /**
+     * Clock timestamp at which the animation completes when evaluated on read, or -1 if it is updated by ticks.
+     */
+    @Getter(AccessLevel.NONE)
+    private long completionTimeNanos = -1;
+
     private final double valueTo;
 
     /**
@@ -52,6 +75,7 @@ public class Animation extends AbstractAnimation {
         this.config = config;
         this.fromValue = fromValue;
         this.currentValue = fromValue;
+        this.previousValue = fromValue;
         this.valueTo = valueTo;
         this.delay = config.delay();
     }
@@ -66,6 +90,7 @@ public class Animation extends AbstractAnimation {
     @Override
     public void update(double deltaTime) {
         Validator.requirePositive(deltaTime, "Delta time must be positive");
+        previousValue = currentValue;
 
         if (delay > 0) {
             delay -= deltaTime;
@@ -73,9 +98,7 @@ public class Animation extends AbstractAnimation {
                 hasStarted = true;
                 isRunning = true;
                 currentValue = valueTo;
-                if (onUpdate != null) {
-                    onUpdate.accept(currentValue);
-                }
+                fireUpdate(currentValue);
             }
             return;
         }
@@ -84,9 +107,7 @@ public class Animation extends AbstractAnimation {
             hasStarted = true;
             isRunning = true;
             currentValue = valueTo;
-            if (onUpdate != null) {
-                onUpdate.accept(currentValue);
-            }
+            fireUpdate(currentValue);
         }
 
         if (!isRunning) {
@@ -97,26 +118,137 @@ public class Animation extends AbstractAnimation {
         currentTime = Math.min(elapsedTime / config.duration(), 1.0);
 
         if (currentTime >= 1.0) {
-            currentTime = 1.0;
-            isRunning = false;
-            currentValue = valueTo;
-            if (onUpdate != null) {
-                onUpdate.accept(currentValue);
-            }
-            if (onComplete != null) {
-                onComplete.run();
-            }
+            finish();
             return;
         }
 
-        double easedTime = config.easing() != null ?
-                config.easing().ease(currentTime) : currentTime;
+        currentValue = getNewValue(ease(currentTime));
 
-        currentValue = getNewValue(easedTime);
+        fireUpdate(currentValue);
+    }
 
-        if (onUpdate != null) {
-            onUpdate.accept(currentValue);
+    /**
+     * Starts the animation in tickless mode: from now on its value is computed from the clock when read,
+     * and no updates are needed until it completes. The remaining delay is added to the start timestamp.
+     *
+     * @param nowNanos current clock timestamp in nanoseconds, as returned by {@link System#nanoTime()}
+     * @return this animation instance for method chaining
+     */
+    public @NotNull Animation startAt(long nowNanos) {
+        long start = nowNanos + (long) (Math.max(delay, 0) * 1_000_000_000L);
+        completionTimeNanos = start + (long) (config.duration() * 1_000_000_000L);
+        startTimeNanos = start;
+        delay = 0;
+        elapsedTime = 0;
+        currentTime = 0;
+        hasStarted = true;
+        isRunning = true;
+        return this;
+    }
+
+    /**
+     * Stops a tickless animation at its current value without calling the completion callback,
+     * e.g. when it is cancelled before its deadline.
+     */
+    void freeze() {
+        if (startTimeNanos >= 0) {
+            currentValue = valueAt(System.nanoTime());
+            startTimeNanos = -1;
         }
+        isRunning = false;
+    }
+
+    /**
+     * Computes the animation value at the given clock timestamp without changing the animation state.
+     * Animations that were not started with {@link #startAt(long)} or have been interrupted return their last value.
+     *
+     * @param nanos clock timestamp in nanoseconds
+     * @return the animation value at that time
+     */
+    public double valueAt(long nanos) {
+        long start = startTimeNanos;
+        if (start < 0) {
+            return currentValue;
+        }
+        if (nanos <= start) {
+            return fromValue;
+        }
+        if (nanos >= completionTimeNanos) {
+            return valueTo;
+        }
+        double progress = (nanos - start) / (config.duration() * 1_000_000_000.0);
+        return getNewValue(ease(progress));
+    }
+
+    /**
+     * Gets the current animation value, the same as {@link #currentValue()}.
+     *
+     * @return the current animation value
+     */
+    public double getCurrentValue() {
+        return currentValue();
+    }
+
+    /**
+     * Gets the clock timestamp at which the animation completes when evaluated on read.
+     *
+     * @return the completion timestamp in nanoseconds, or -1 if the animation is updated by ticks
+     */
+    long completionTimeNanos() {
+        return completionTimeNanos;
+    }
+
+    /**
+     * Computes the animation value now. In tickless mode this reads the clock, otherwise returns the last updated value.
+     *
+     * @return the current animation value
+     */
+    public double currentValue() {
+        return startTimeNanos < 0 ? currentValue : valueAt(System.nanoTime());
+    }
+
+    /**
+     * Holds the current value, so blending a deferred frame does not replay the step before it.
+     */
+    @Override
+    protected void skipUpdate() {
+        previousValue = currentValue;
+    }
+
+    /**
+     * Blends the values before and after the last update, for rendering between fixed simulation steps.
+     *
+     * @param alpha position between the last two updates, 0 for the previous and 1 for the current value,
+     *              e.g. {@code RenderAnimationExecutor.alpha()}
+     * @return the interpolated value
+     */
+    public double interpolatedValue(double alpha) {
+        return previousValue + (currentValue - previousValue) * alpha;
+    }
+
+    /**
+     * Moves the animation to its end value and reports completion, unless it has already been stopped.
+     */
+    void finish() {
+        if (!isRunning) {
+            return;
+        }
+        currentTime = 1.0;
+        isRunning = false;
+        currentValue = valueTo;
+        startTimeNanos = -1;
+        fireFinalUpdate(currentValue);
+        fireComplete();
+    }
+
+    /**
+     * Applies the configured easing to the given progress.
+     *
+     * @param time linear progress (0.0 to 1.0)
+     * @return eased progress
+     */
+    private double ease(double time) {
+        return config.easing() != null ? config.easing().ease(time) : time;
     }
 
     /**
@@ -139,6 +271,16 @@ public class Animation extends AbstractAnimation {
         return !isRunning && currentTime >= 1.0;
     }
 
+    /**
+     * Checks whether the animation finished or was {@link #interrupt() interrupted} after it started.
+     *
+     * @return true if the animation will not update anymore
+     */
+    @Override
+    boolean isDone() {
+        return !isRunning && (currentTime >= 1.0 || hasStarted);
+    }
+
     /**
      * Resets the animation to its initial state.
      */
@@ -149,7 +291,58 @@ public class Animation extends AbstractAnimation {
         isRunning = false;
         hasStarted = false;
         currentValue = fromValue;
+        previousValue = fromValue;
         delay = config.delay();
+        startTimeNanos = -1;
+        completionTimeNanos = -1;
+        lastReportedValue = Double.NaN;
+    }
+
+    /**
+     * Gets the size of the state written by {@link #writeState(ByteBuffer)}.
+     *
+     * @return the state size in bytes
+     */
+    @Override
+    protected int stateSize() {
+        return super.stateSize() + Double.BYTES * 3 + Long.BYTES * 2 + 1;
+    }
+
+    /**
+     * Writes the playback state, with tickless timestamps relative to the current clock so they survive a JVM change.
+     *
+     * @param out buffer receiving {@link #stateSize()} bytes
+     */
+    @Override
+    protected void writeState(ByteBuffer out) {
+        super.writeState(out);
+        long start = startTimeNanos;
+        long now = System.nanoTime();
+        out.putDouble(currentValue);
+        out.putDouble(previousValue);
+        out.putDouble(elapsedTime);
+        out.put((byte) (hasStarted ? 1 : 0));
+        out.putLong(start < 0 ? Long.MIN_VALUE : start - now);
+        out.putLong(start < 0 ? Long.MIN_VALUE : completionTimeNanos - now);
+    }
+
+    /**
+     * Reads the playback state written by {@link #writeState(ByteBuffer)}.
+     *
+     * @param in buffer holding the state
+     */
+    @Override
+    protected void readState(ByteBuffer in) {
+        super.readState(in);
+        long now = System.nanoTime();
+        currentValue = in.getDouble();
+        previousValue = in.getDouble();
+        elapsedTime = in.getDouble();
+        hasStarted = in.get() != 0;
+        long start = in.getLong();
+        long completion = in.getLong();
+        completionTimeNanos = start == Long.MIN_VALUE ? -1 : now + completion;
+        startTimeNanos = start == Long.MIN_VALUE ? -1 : now + start;
     }
 
     /**
@@ -163,6 +356,17 @@ public class Animation extends AbstractAnimation {
         return this;
     }
 
+    /**
+     * Sets a primitive callback function to be called on each animation update, without boxing the value.
+     *
+     * @param onValue callback function that receives the current animation value
+     * @return this animation instance for method chaining
+     */
+    public @NotNull Animation onValue(@Nullable DoubleConsumer onValue) {
+        this.onValue = onValue;
+        return this;
+    }
+
     /**
      * Sets the callback function to be called when animation completes.
      *
@@ -176,11 +380,16 @@ public class Animation extends AbstractAnimation {
 
     /**
      * Interrupts the animation and triggers the completion callback.
+     * The executor then drops the animation like a finished one and completes its completion future.
      */
     public void interrupt() {
         if (isRunning) {
+            if (startTimeNanos >= 0) {
+                currentValue = currentValue();
+                startTimeNanos = -1;
+            }
             isRunning = false;
-            if (onComplete != null) onComplete.run();
+            fireComplete();
         }
     }
 
@@ -0,0 +1,27 @@
+package dev.hogoshi.animations.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps animations to stable ids for executor snapshots. Snapshots only hold playback state,
+ * so the binder identifies which animation, with its configuration and callbacks, the state belongs to.
+ * Typically the ids index a scene's animation table that is rebuilt the same way after a reload.
+ */
+public interface AnimationBinder {
+    /**
+     * Gets the id an animation is saved under.
+     *
+     * @param animation a running animation
+     * @return a non-negative id, or a negative value to leave the animation out of the snapshot
+     */
+    int idOf(@NotNull AbstractAnimation animation);
+
+    /**
+     * Gets the animation to restore a saved state into.
+     *
+     * @param id id the state was saved under
+     * @return a fresh animation that is not running, or null to skip the state
+     */
+    @Nullable AbstractAnimation animationFor(int id);
+}
@@ -12,8 +12,9 @@ public interface AnimationExecutor {
      * Executes the given animation.
      *
      * @param animation the animation to execute
+     * @return a handle to cancel, pause or resume the animation
      */
-    void execute(@NotNull AbstractAnimation animation);
+    @NotNull AnimationHandle execute(@NotNull AbstractAnimation animation);
 
     /**
      * Stops all running animations and cleans up resources.
@@ -0,0 +1,115 @@
+package dev.hogoshi.animations.core;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lightweight reference to an animation running in an executor, returned by {@link AnimationExecutor#execute}.
+ * Handles stay safe to use after the animation finished or was cancelled: every operation
+ * then does nothing and reports false, even if the executor reused the storage for another animation.
+ */
+public final class AnimationHandle {
+    /**
+     * Store holding the animation.
+     */
+    private final AnimationStore store;
+
+    /**
+     * Slot of the animation in the store.
+     */
+    final int slot;
+
+    /**
+     * Generation of the slot when the animation was stored.
+     */
+    final int generation;
+
+    /**
+     * Creates a handle for a stored animation.
+     *
+     * @param store      store holding the animation
+     * @param slot       slot of the animation in the store
+     * @param generation generation of the slot
+     */
+    AnimationHandle(@NotNull AnimationStore store, int slot, int generation) {
+        this.store = store;
+        this.slot = slot;
+        this.generation = generation;
+    }
+
+    /**
+     * Checks whether the animation is still running in its executor.
+     *
+     * @return true if the animation has neither finished nor been cancelled
+     */
+    public boolean isValid() {
+        return store.resolve(slot, generation) != null;
+    }
+
+    /**
+     * Gets the animation this handle refers to.
+     *
+     * @return the animation, or null if it has finished or been cancelled
+     */
+    public @Nullable AbstractAnimation animation() {
+        return store.resolve(slot, generation);
+    }
+
+    /**
+     * Gets a future completed once the animation leaves its executor: when it finishes, is interrupted, is cancelled
+     * or the executor is stopped. The executor completes the futures of all animations that ended in a tick
+     * together at the end of that tick. With a callback executor it completes there, after the completion callback.
+     * The future is created on the first call, so animations nobody waits for don't pay for it.
+     *
+     * @return the completion future, already completed if the handle is stale
+     */
+    public @NotNull CompletableFuture<Void> completion() {
+        return store.completion(slot, generation);
+    }
+
+    /**
+     * Cancels the animation without calling its completion callback.
+     * The executor drops it before its next update.
+     *
+     * @return true if the animation was running, false if the handle is stale
+     */
+    public boolean cancel() {
+        AbstractAnimation animation = store.resolve(slot, generation);
+        if (animation == null) {
+            return false;
+        }
+        animation.cancelled = true;
+        store.cancellationRequested();
+        return true;
+    }
+
+    /**
+     * Pauses the animation, freezing it at its current value until resumed.
+     *
+     * @return true if the animation was running, false if the handle is stale
+     */
+    public boolean pause() {
+        AbstractAnimation animation = store.resolve(slot, generation);
+        if (animation == null) {
+            return false;
+        }
+        animation.paused = true;
+        return true;
+    }
+
+    /**
+     * Resumes a paused animation.
+     *
+     * @return true if the animation was running, false if the handle is stale
+     */
+    public boolean resume() {
+        AbstractAnimation animation = store.resolve(slot, generation);
+        if (animation == null) {
+            return false;
+        }
+        animation.paused = false;
+        return true;
+    }
+}
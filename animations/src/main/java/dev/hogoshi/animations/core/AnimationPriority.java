@@ -0,0 +1,36 @@
+package dev.hogoshi.animations.core;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Priority class of an animation, used by executors with a frame budget to decide what to update under overload.
+ * Classes are updated in declaration order, so higher priorities always run first.
+ */
+@Getter
+@Accessors(fluent = true)
+public enum AnimationPriority {
+    /**
+     * Updated every frame even when the frame budget is exceeded. Use for animations following direct user input.
+     */
+    CRITICAL(1),
+
+    /**
+     * Updated every second frame while the executor is overloaded.
+     */
+    NORMAL(2),
+
+    /**
+     * Updated every fourth frame while the executor is overloaded. Use for decorative animations.
+     */
+    LOW(4);
+
+    /**
+     * Number of frames between updates while the executor is overloaded. Skipped time is applied in one larger step.
+     */
+    private final int overloadStride;
+
+    AnimationPriority(int overloadStride) {
+        this.overloadStride = overloadStride;
+    }
+}
@@ -0,0 +1,551 @@
+package dev.hogoshi.animations.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dense storage of the animations running in an executor, addressed by generational handles.
+ * Animations are kept in a packed array that is removed from by swapping the last element into the gap,
+ * while a slot table with a free list maps stable slot numbers to array positions.
+ * Every slot carries a generation that changes on removal, so handles to removed animations are detected.
+ * <p>
+ * Adding, removing and handle lookups are synchronized on the store and may happen from any thread.
+ * Positional access through {@link #get(int)} is meant for the executor thread, which is also the only
+ * thread removing animations, so iterating backwards stays valid while other threads add animations.
+ * The same holds for the domain buckets. Arrays that grow are copied before being published through volatile
+ * fields, and every count is written after the element it covers, so a reader that reads a count first only
+ * sees fully filled arrays and never needs the lock.
+ * <p>
+ * Animations with a group are also indexed per group, each keeping its position in the group's member array,
+ * so group operations only touch the members of that group and removal stays O(1).
+ * Every animation is also kept in the bucket of its {@link TimeDomain}, which executors iterate
+ * to resolve each domain's time scale once and to skip paused domains entirely.
+ */
+public final class AnimationStore {
+    /**
+     * Marks the end of the free list.
+     */
+    private static final int NO_SLOT = -1;
+
+    /**
+     * Packed array of the stored animations.
+     */
+    private volatile AbstractAnimation[] dense = new AbstractAnimation[16];
+
+    /**
+     * Slot of the animation at each position of the packed array.
+     */
+    private int[] denseSlots = new int[16];
+
+    /**
+     * Position of each slot in the packed array, or the next free slot for free slots.
+     */
+    private int[] slotPositions = new int[16];
+
+    /**
+     * Whether an animation was cancelled since the executor last looked for cancellations in skipped domains.
+     */
+    private volatile boolean cancellationPending;
+
+    /**
+     * Called after an animation was cancelled through its handle, or null. Lets executors without a tick loop
+     * apply cancellations right away.
+     */
+    private volatile Runnable cancellationListener;
+
+    /**
+     * Current generation of each slot.
+     */
+    private int[] generations = new int[16];
+
+    /**
+     * Number of slots handed out so far.
+     */
+    private int slotCount;
+
+    /**
+     * First slot of the free list.
+     */
+    private int freeSlot = NO_SLOT;
+
+    /**
+     * Index of the stored animations by group.
+     */
+    private final Map<Object, Group> groups = new HashMap<>();
+
+    /**
+     * Buckets of the stored animations by time domain, including a bucket for animations without a domain.
+     */
+    private final Map<TimeDomain, Group> domains = new HashMap<>();
+
+    /**
+     * Domain buckets in iteration order, packed like the animations.
+     */
+    private volatile Group[] buckets = new Group[4];
+
+    /**
+     * Number of domain buckets.
+     */
+    private volatile int bucketCount;
+
+    /**
+     * Number of stored animations.
+     */
+    private volatile int size;
+
+    /**
+     * Read-only list view over the stored animations.
+     */
+    private final List<AbstractAnimation> view = new AbstractList<AbstractAnimation>() {
+        @Override
+        public AbstractAnimation get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return dense[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
+
+    /**
+     * Stores an animation and creates a handle for it.
+     *
+     * @param animation the animation to store
+     * @return a handle addressing the animation until it is removed
+     * @throws IllegalArgumentException if the animation is already stored in an executor
+     */
+    public synchronized @NotNull AnimationHandle add(@NotNull AbstractAnimation animation) {
+        if (animation.slot != NO_SLOT) {
+            throw new IllegalArgumentException("Animation is already running in an executor");
+        }
+
+        int slot = freeSlot;
+        if (slot != NO_SLOT) {
+            freeSlot = slotPositions[slot];
+        } else {
+            slot = slotCount++;
+            if (slot == slotPositions.length) {
+                slotPositions = Arrays.copyOf(slotPositions, slot * 2);
+                generations = Arrays.copyOf(generations, slot * 2);
+            }
+        }
+
+        int position = size;
+        if (position == dense.length) {
+            dense = Arrays.copyOf(dense, position * 2);
+            denseSlots = Arrays.copyOf(denseSlots, position * 2);
+        }
+        dense[position] = animation;
+        denseSlots[position] = slot;
+        slotPositions[slot] = position;
+        animation.slot = slot;
+        animation.generation = generations[slot];
+        animation.cancelled = false;
+        animation.paused = false;
+        if (animation.group != null) {
+            groups.computeIfAbsent(animation.group, key -> new Group(key, false)).add(animation);
+        }
+        Group bucket = domains.get(animation.timeDomain);
+        if (bucket == null) {
+            bucket = new Group(animation.timeDomain, true);
+            domains.put(animation.timeDomain, bucket);
+            if (bucketCount == buckets.length) {
+                buckets = Arrays.copyOf(buckets, bucketCount * 2);
+            }
+            bucket.bucketIndex = bucketCount;
+            buckets[bucketCount] = bucket;
+            bucketCount++;
+        }
+        bucket.add(animation);
+        size = position + 1;
+        return new AnimationHandle(this, slot, generations[slot]);
+    }
+
+    /**
+     * Removes the animation at the given position by moving the last animation into its place.
+     * The slot of the removed animation gets a new generation, invalidating its handles.
+     *
+     * @param position position in the packed array
+     * @return the removed animation
+     */
+    public synchronized @NotNull AbstractAnimation removeAt(int position) {
+        AbstractAnimation animation = dense[position];
+        int slot = denseSlots[position];
+        int last = size - 1;
+        if (position != last) {
+            AbstractAnimation moved = dense[last];
+            int movedSlot = denseSlots[last];
+            dense[position] = moved;
+            denseSlots[position] = movedSlot;
+            slotPositions[movedSlot] = position;
+        }
+        dense[last] = null;
+        size = last;
+        release(slot);
+        animation.slot = NO_SLOT;
+        unindex(animation);
+        return animation;
+    }
+
+    /**
+     * Removes the given animation if it is stored here.
+     *
+     * @param animation the animation to remove
+     * @return true if the animation was removed
+     */
+    public synchronized boolean remove(@NotNull AbstractAnimation animation) {
+        int slot = animation.slot;
+        if (slot == NO_SLOT || slot >= slotCount) {
+            return false;
+        }
+        int position = slotPositions[slot];
+        if (position >= size || dense[position] != animation) {
+            return false;
+        }
+        removeAt(position);
+        return true;
+    }
+
+    /**
+     * Removes all animations, invalidating every handle, and completes the completion futures of the removed animations.
+     * The removed animations count as cancelled until they are added again.
+     */
+    public void clear() {
+        CompletableFuture<?>[] dropped = null;
+        int droppedCount = 0;
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                CompletableFuture<?> completion = dense[i].takeCompletion();
+                if (completion != null) {
+                    if (dropped == null) {
+                        dropped = new CompletableFuture<?>[size];
+                    }
+                    dropped[droppedCount++] = completion;
+                }
+                dense[i].cancelled = true;
+                dense[i].slot = NO_SLOT;
+                dense[i].groupEntry = null;
+                dense[i].groupPosition = -1;
+                dense[i].domainEntry = null;
+                dense[i].domainPosition = -1;
+                release(denseSlots[i]);
+                dense[i] = null;
+            }
+            groups.clear();
+            domains.clear();
+            Arrays.fill(buckets, 0, bucketCount, null);
+            bucketCount = 0;
+            size = 0;
+        }
+        for (int i = 0; i < droppedCount; i++) {
+            dropped[i].complete(null);
+        }
+    }
+
+    /**
+     * Marks that an animation was cancelled, so the executor also looks for cancelled animations in domains it skips.
+     */
+    void cancellationRequested() {
+        cancellationPending = true;
+        Runnable listener = cancellationListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Sets the callback run after an animation was cancelled through its handle, outside the store's lock.
+     *
+     * @param listener the callback, or null to only mark cancellations for the next tick
+     */
+    void cancellationListener(Runnable listener) {
+        this.cancellationListener = listener;
+    }
+
+    /**
+     * Checks and resets whether an animation was cancelled since the last call.
+     *
+     * @return true if a cancellation was requested
+     */
+    boolean takeCancellations() {
+        if (!cancellationPending) {
+            return false;
+        }
+        cancellationPending = false;
+        return true;
+    }
+
+    /**
+     * Cancels every running animation of a group.
+     *
+     * @param group group key
+     * @return the number of cancelled animations
+     */
+    public synchronized int cancelGroup(@NotNull Object group) {
+        Group entry = groups.get(group);
+        if (entry == null) {
+            return 0;
+        }
+        int cancelled = 0;
+        cancellationPending = true;
+        for (int i = 0; i < entry.size; i++) {
+            AbstractAnimation member = entry.members[i];
+            if (!member.cancelled) {
+                member.cancelled = true;
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Pauses or resumes every running animation of a group.
+     *
+     * @param group  group key
+     * @param paused true to pause, false to resume
+     * @return the number of affected animations
+     */
+    public synchronized int setGroupPaused(@NotNull Object group, boolean paused) {
+        Group entry = groups.get(group);
+        if (entry == null) {
+            return 0;
+        }
+        for (int i = 0; i < entry.size; i++) {
+            entry.members[i].paused = paused;
+        }
+        return entry.size;
+    }
+
+    /**
+     * Counts the running animations of a group, excluding cancelled ones waiting to be removed.
+     *
+     * @param group group key
+     * @return the number of animations in the group
+     */
+    public synchronized int count(@NotNull Object group) {
+        Group entry = groups.get(group);
+        if (entry == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < entry.size; i++) {
+            if (!entry.members[i].cancelled) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the animation at the given position of the packed array.
+     *
+     * @param position position between 0 and {@link #size()}
+     * @return the animation at that position
+     */
+    public @NotNull AbstractAnimation get(int position) {
+        return dense[position];
+    }
+
+    /**
+     * Gets the number of stored animations.
+     *
+     * @return the number of animations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the store holds no animations.
+     *
+     * @return true if no animations are stored
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets a read-only list view over the stored animations, in storage order.
+     *
+     * @return the list view
+     */
+    public @NotNull List<AbstractAnimation> asList() {
+        return view;
+    }
+
+    /**
+     * Gets the number of time domain buckets.
+     *
+     * @return the number of buckets
+     */
+    int bucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Gets a time domain bucket. Buckets are removed like animations, by moving the last one into the gap.
+     *
+     * @param index index between 0 and {@link #bucketCount()}
+     * @return the bucket
+     */
+    @NotNull Group bucket(int index) {
+        return buckets[index];
+    }
+
+    /**
+     * Resolves a handle to its animation.
+     *
+     * @param slot       slot of the handle
+     * @param generation generation of the handle
+     * @return the animation, or null if it has been removed or cancelled
+     */
+    synchronized @Nullable AbstractAnimation resolve(int slot, int generation) {
+        if (slot >= slotCount || generations[slot] != generation) {
+            return null;
+        }
+        AbstractAnimation animation = dense[slotPositions[slot]];
+        return animation.cancelled ? null : animation;
+    }
+
+    /**
+     * Removes an animation from its group index entry and domain bucket, dropping them once they are empty.
+     * The bucket of animations without a domain is kept, so short animations don't recreate it every time.
+     *
+     * @param animation the animation to remove
+     */
+    private void unindex(AbstractAnimation animation) {
+        Group entry = animation.groupEntry;
+        if (entry != null) {
+            entry.remove(animation);
+            if (entry.size == 0) {
+                groups.remove(entry.key);
+            }
+        }
+
+        Group bucket = animation.domainEntry;
+        bucket.remove(animation);
+        if (bucket.size == 0 && bucket.key != null) {
+            domains.remove(bucket.key);
+            int last = --bucketCount;
+            if (bucket.bucketIndex != last) {
+                Group moved = buckets[last];
+                buckets[bucket.bucketIndex] = moved;
+                moved.bucketIndex = bucket.bucketIndex;
+            }
+            buckets[last] = null;
+        }
+    }
+
+    /**
+     * Gets the completion future of the animation a handle refers to, creating it on first use.
+     *
+     * @param slot       slot of the handle
+     * @param generation generation of the handle
+     * @return the animation's future, or a completed future if the animation is no longer stored
+     */
+    synchronized @NotNull CompletableFuture<Void> completion(int slot, int generation) {
+        AbstractAnimation animation = resolve(slot, generation);
+        if (animation == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return animation.completion();
+    }
+
+    /**
+     * Advances the generation of a slot and puts it on the free list.
+     *
+     * @param slot slot to release
+     */
+    private void release(int slot) {
+        generations[slot]++;
+        slotPositions[slot] = freeSlot;
+        freeSlot = slot;
+    }
+
+    /**
+     * Members of one group or time domain, with each member storing its own position for O(1) removal.
+     */
+    static final class Group {
+        private final Object key;
+        private final boolean timeDomain;
+        private volatile AbstractAnimation[] members = new AbstractAnimation[4];
+        private volatile int size;
+        private int bucketIndex = -1;
+
+        private Group(Object key, boolean timeDomain) {
+            this.key = key;
+            this.timeDomain = timeDomain;
+        }
+
+        /**
+         * Gets the time domain of a domain bucket.
+         *
+         * @return the time domain, or null for animations without a domain
+         */
+        @Nullable TimeDomain domain() {
+            return (TimeDomain) key;
+        }
+
+        /**
+         * Gets the number of members.
+         *
+         * @return the number of members
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Gets the member at the given position. Members are removed by moving the last one into the gap.
+         *
+         * @param position position between 0 and {@link #size()}
+         * @return the member at that position
+         */
+        @NotNull AbstractAnimation get(int position) {
+            return members[position];
+        }
+
+        private void add(AbstractAnimation animation) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            members[size] = animation;
+            setPosition(animation, this, size);
+            size++;
+        }
+
+        private void remove(AbstractAnimation animation) {
+            int position = timeDomain ? animation.domainPosition : animation.groupPosition;
+            int last = size - 1;
+            if (position != last) {
+                AbstractAnimation moved = members[last];
+                members[position] = moved;
+                setPosition(moved, this, position);
+            }
+            members[last] = null;
+            size = last;
+            setPosition(animation, null, -1);
+        }
+
+        private void setPosition(AbstractAnimation animation, Group entry, int position) {
+            if (timeDomain) {
+                animation.domainEntry = entry;
+                animation.domainPosition = position;
+            } else {
+                animation.groupEntry = entry;
+                animation.groupPosition = position;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dev.hogoshi.animations.core;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives animation callbacks instead of having them invoked inline during an update.
+ * Executors install a dispatcher when callbacks have to be delivered on another thread or at another time.
+ */
+public interface CallbackDispatcher {
+    /**
+     * Called when an animation produced a new value.
+     *
+     * @param animation the animation that was updated
+     * @param value     the new animation value
+     */
+    void dispatchUpdate(@NotNull AbstractAnimation animation, double value);
+
+    /**
+     * Called when an animation completed.
+     *
+     * @param animation the animation that completed
+     */
+    void dispatchComplete(@NotNull AbstractAnimation animation);
+}
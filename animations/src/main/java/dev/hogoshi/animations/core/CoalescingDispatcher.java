@@ -0,0 +1,257 @@
+package dev.hogoshi.animations.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Delivers animation callbacks on a separate {@link Executor}, so slow consumers don't delay the tick.
+ * Install it with {@link AbstractAnimationExecutor#callbackExecutor(Executor)}.
+ * <p>
+ * Every animation gets a mailbox holding only its latest value. The tick stores the value and submits the mailbox
+ * unless it is already waiting to run, so posting never blocks and costs the same however slow the callbacks are.
+ * A consumer that lags behind receives the newest value instead of a backlog, and each value it never saw is counted
+ * as dropped. Updates, the completion callback and finally the completion future of one animation are delivered
+ * in order, one mailbox run at a time, while different animations may be delivered concurrently if the executor
+ * has several threads.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class CoalescingDispatcher {
+    /**
+     * Executor running the callbacks.
+     */
+    private final Executor executor;
+
+    /**
+     * Number of updates replaced by a newer value before delivery, across all animations.
+     */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder droppedUpdates = new LongAdder();
+
+    /**
+     * Creates a dispatcher delivering callbacks on the given executor.
+     *
+     * @param executor executor running the callbacks
+     * @throws IllegalArgumentException if executor is null
+     */
+    public CoalescingDispatcher(@NotNull Executor executor) {
+        Validator.requireNonNull(executor, "Executor cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the number of updates replaced by a newer value before delivery.
+     *
+     * @return the dropped updates of all animations
+     */
+    public long droppedUpdates() {
+        return droppedUpdates.sum();
+    }
+
+    /**
+     * Gets the number of updates of one animation replaced by a newer value before delivery.
+     *
+     * @param animation the animation
+     * @return the dropped updates since the animation was last executed, or 0 if this dispatcher doesn't deliver its callbacks
+     */
+    public long droppedUpdates(@NotNull AbstractAnimation animation) {
+        Validator.requireNonNull(animation, "Animation cannot be null");
+        CallbackDispatcher dispatcher = animation.dispatcher;
+        if (dispatcher instanceof Mailbox && ((Mailbox) dispatcher).owner == this) {
+            return ((Mailbox) dispatcher).droppedUpdates;
+        }
+        return 0;
+    }
+
+    /**
+     * Creates the mailbox delivering one animation's callbacks.
+     *
+     * @param animation the animation
+     * @return the dispatcher to install in the animation
+     */
+    @NotNull Mailbox mailbox(@NotNull AbstractAnimation animation) {
+        return new Mailbox(this, animation);
+    }
+
+    /**
+     * Completes an animation's completion future from its mailbox, after its pending callbacks were delivered.
+     *
+     * @param animation  the removed animation
+     * @param completion its completion future
+     * @return true if the mailbox took the future, false if this dispatcher doesn't deliver the animation's callbacks
+     */
+    static boolean complete(@NotNull AbstractAnimation animation, @NotNull CompletableFuture<?> completion) {
+        CallbackDispatcher dispatcher = animation.dispatcher;
+        if (!(dispatcher instanceof Mailbox)) {
+            return false;
+        }
+        ((Mailbox) dispatcher).complete(completion);
+        return true;
+    }
+
+    /**
+     * Latest-value-wins mailbox of one animation, submitted to the executor whenever it holds undelivered callbacks.
+     */
+    static final class Mailbox implements CallbackDispatcher, Runnable {
+        /**
+         * State bit of an undelivered value.
+         */
+        private static final int UPDATE = 1;
+
+        /**
+         * State bit of an undelivered completion.
+         */
+        private static final int COMPLETE = 2;
+
+        /**
+         * State bit of a mailbox submitted to the executor and not done running.
+         */
+        private static final int SCHEDULED = 4;
+
+        /**
+         * State bit of an uncompleted completion future.
+         */
+        private static final int FUTURE = 8;
+
+        /**
+         * Dispatcher this mailbox belongs to.
+         */
+        private final CoalescingDispatcher owner;
+
+        /**
+         * Animation whose callbacks are delivered.
+         */
+        private final AbstractAnimation animation;
+
+        /**
+         * Pending work and scheduling state.
+         */
+        private final AtomicInteger state = new AtomicInteger();
+
+        /**
+         * Latest value posted by the tick.
+         */
+        private volatile double value;
+
+        /**
+         * Sequence lock of {@link #value}: twice the number of values posted so far, odd while a value is written.
+         * Only written by the thread updating the animation.
+         */
+        private volatile long posted;
+
+        /**
+         * Sequence of the latest delivered value. Only written by mailbox runs.
+         */
+        private long delivered;
+
+        /**
+         * Completion future to complete after the pending callbacks.
+         */
+        private volatile CompletableFuture<?> completion;
+
+        /**
+         * Updates of this animation replaced before delivery. Only written by mailbox runs.
+         */
+        private volatile long droppedUpdates;
+
+        Mailbox(CoalescingDispatcher owner, AbstractAnimation animation) {
+            this.owner = owner;
+            this.animation = animation;
+        }
+
+        @Override
+        public void dispatchUpdate(@NotNull AbstractAnimation animation, double value) {
+            posted++;
+            this.value = value;
+            posted++;
+            post(UPDATE);
+        }
+
+        @Override
+        public void dispatchComplete(@NotNull AbstractAnimation animation) {
+            post(COMPLETE);
+        }
+
+        /**
+         * Hands over the completion future of the removed animation.
+         *
+         * @param completion the future to complete
+         */
+        void complete(CompletableFuture<?> completion) {
+            this.completion = completion;
+            post(FUTURE);
+        }
+
+        /**
+         * Marks work as pending and submits the mailbox unless it is already scheduled.
+         *
+         * @param work state bit of the posted callback
+         */
+        private void post(int work) {
+            int previous;
+            do {
+                previous = state.get();
+            } while (!state.compareAndSet(previous, previous | work | SCHEDULED));
+            if ((previous & SCHEDULED) == 0) {
+                owner.executor.execute(this);
+            }
+        }
+
+        /**
+         * Delivers the pending callbacks, then resubmits the mailbox if new ones arrived meanwhile.
+         */
+        @Override
+        public void run() {
+            int work = state.getAndSet(SCHEDULED);
+            try {
+                if ((work & UPDATE) != 0) {
+                    deliverLatest();
+                }
+                if ((work & COMPLETE) != 0) {
+                    animation.deliverComplete();
+                }
+                if ((work & FUTURE) != 0) {
+                    CompletableFuture<?> completion = this.completion;
+                    this.completion = null;
+                    completion.complete(null);
+                }
+            } finally {
+                if (!state.compareAndSet(SCHEDULED, 0)) {
+                    owner.executor.execute(this);
+                }
+            }
+        }
+
+        /**
+         * Delivers the latest value unless it was already delivered. A value posted while a run drains the mailbox
+         * may be picked up by that run and flagged again for the next one, which then finds nothing new.
+         */
+        private void deliverLatest() {
+            long seen;
+            double latest;
+            do {
+                seen = posted;
+                latest = value;
+            } while ((seen & 1) != 0 || posted != seen);
+            long skipped = (seen - delivered) / 2 - 1;
+            if (skipped < 0) {
+                return;
+            }
+            delivered = seen;
+            if (skipped > 0) {
+                droppedUpdates += skipped;
+                owner.droppedUpdates.add(skipped);
+            }
+            animation.deliverUpdate(latest);
+        }
+    }
+}
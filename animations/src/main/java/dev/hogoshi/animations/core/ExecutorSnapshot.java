@@ -0,0 +1,134 @@
+package dev.hogoshi.animations.core;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Binary format of executor snapshots: the {@link #MAGIC} int, the {@link #VERSION} byte and the int number of
+ * animations, then per animation its int id, the int size of its state and the state written by
+ * {@link AbstractAnimation#writeState(ByteBuffer)}. The size lets readers skip states of unknown ids.
+ */
+final class ExecutorSnapshot {
+    /**
+     * Marks an executor snapshot.
+     */
+    static final int MAGIC = 0x414E5353;
+
+    /**
+     * Version of the snapshot format.
+     */
+    static final byte VERSION = 1;
+
+    private ExecutorSnapshot() {
+    }
+
+    /**
+     * Writes the state of every stored animation the binder has an id for.
+     *
+     * @param store  store of the running animations
+     * @param binder maps animations to ids
+     * @return the snapshot
+     */
+    static byte[] write(AnimationStore store, AnimationBinder binder) {
+        int size = store.size();
+        int[] ids = new int[size];
+        int bytes = Integer.BYTES + 1 + Integer.BYTES;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            AbstractAnimation animation = store.get(i);
+            ids[i] = animation.cancelled ? -1 : binder.idOf(animation);
+            if (ids[i] >= 0) {
+                bytes += Integer.BYTES * 2 + animation.stateSize();
+                count++;
+            }
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(bytes);
+        out.putInt(MAGIC).put(VERSION).putInt(count);
+        for (int i = 0; i < size; i++) {
+            if (ids[i] < 0) continue;
+            AbstractAnimation animation = store.get(i);
+            out.putInt(ids[i]).putInt(animation.stateSize());
+            animation.writeState(out);
+        }
+        return out.array();
+    }
+
+    /**
+     * Reads a snapshot, restoring every state the binder has an animation for.
+     *
+     * @param snapshot snapshot written by {@link #write(AnimationStore, AnimationBinder)}
+     * @param binder   maps ids to fresh animations
+     * @param target   receives each restored animation
+     * @return the number of restored animations
+     * @throws IllegalArgumentException if the data is not a snapshot, is truncated or corrupt,
+     *                                  or a state doesn't match its animation
+     */
+    static int read(byte[] snapshot, AnimationBinder binder, Consumer<AbstractAnimation> target) {
+        ByteBuffer in = ByteBuffer.wrap(snapshot);
+        if (in.remaining() < Integer.BYTES + 1 + Integer.BYTES || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not an executor snapshot");
+        }
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported executor snapshot version " + version);
+        }
+
+        int count = in.getInt();
+        requireFraming(in, count);
+        int restored = 0;
+        for (int i = 0; i < count; i++) {
+            int id = in.getInt();
+            int size = in.getInt();
+            int end = in.position() + size;
+            AbstractAnimation animation = binder.animationFor(id);
+            if (animation != null) {
+                if (animation.stateSize() != size) {
+                    throw new IllegalArgumentException(
+                            "Saved state of id " + id + " doesn't match " + animation.getClass().getName());
+                }
+                ((Buffer) in).limit(end);
+                try {
+                    animation.readState(in);
+                } catch (BufferUnderflowException e) {
+                    throw new IllegalArgumentException("Saved state of id " + id + " is truncated", e);
+                } finally {
+                    ((Buffer) in).limit(in.capacity());
+                }
+                target.accept(animation);
+                restored++;
+            }
+            ((Buffer) in).position(end);
+        }
+        return restored;
+    }
+
+    /**
+     * Checks that the count and every state size fit into the remaining data, before anything is restored,
+     * so a truncated or corrupt snapshot fails as a whole instead of after restoring part of it.
+     *
+     * @param in    snapshot positioned after the header
+     * @param count number of animations announced by the header
+     * @throws IllegalArgumentException if the entries don't fit into the data
+     */
+    private static void requireFraming(ByteBuffer in, int count) {
+        if (count < 0 || count > in.remaining() / (Integer.BYTES * 2)) {
+            throw new IllegalArgumentException("Executor snapshot is corrupt: invalid animation count " + count);
+        }
+        int position = in.position();
+        for (int i = 0; i < count; i++) {
+            if (in.remaining() < Integer.BYTES * 2) {
+                throw new IllegalArgumentException("Executor snapshot is truncated");
+            }
+            in.getInt();
+            int size = in.getInt();
+            if (size < 0 || size > in.remaining()) {
+                throw new IllegalArgumentException("Executor snapshot is corrupt: invalid state size " + size);
+            }
+            ((Buffer) in).position(in.position() + size);
+        }
+        ((Buffer) in).position(position);
+    }
+}
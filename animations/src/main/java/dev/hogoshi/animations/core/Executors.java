@@ -25,6 +25,10 @@ public class Executors {
      * Render multi-threaded animation executor that you should finish (call update method inside of frame rendering).
      */
     public static final SimpleAnimationExecutor RENDER_PARALLEL = new RenderAnimationExecutor().parallelProcessing(true);
+    /**
+     * Tickless executor that only fires completions, animation values are computed when read.
+     */
+    public static final TicklessAnimationExecutor TICKLESS = new TicklessAnimationExecutor();
 
     private Executors() {}
 
@@ -0,0 +1,115 @@
+package dev.hogoshi.animations.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+
+/**
+ * Shared frame source that drives any number of animation executors from a single host callback.
+ * The host loop (render loop, vsync callback, game tick) calls {@link #frame(long)} once per frame
+ * and every subscribed listener receives the same frame timestamp, so all executors stay frame-coherent
+ * without running timers of their own.
+ */
+public class FrameClock {
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    /**
+     * Current subscribers. Replaced on every (un)subscription so frames can be dispatched without locking.
+     */
+    private volatile Listener[] listeners = NO_LISTENERS;
+
+    /**
+     * Timestamp of the last dispatched frame in nanoseconds.
+     */
+    private volatile long frameTimeNanos;
+
+    /**
+     * Subscribes a listener to the frame clock. Subscribing the same listener twice has no effect.
+     *
+     * @param listener listener to notify on every frame
+     * @throws IllegalArgumentException if listener is null
+     */
+    public synchronized void subscribe(@NotNull Listener listener) {
+        Validator.requireNonNull(listener, "Listener cannot be null");
+        Listener[] current = listeners;
+        for (Listener existing : current) {
+            if (existing == listener) return;
+        }
+        Listener[] updated = new Listener[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unsubscribes a listener from the frame clock.
+     *
+     * @param listener listener to remove
+     */
+    public synchronized void unsubscribe(@NotNull Listener listener) {
+        Listener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != listener) continue;
+            if (current.length == 1) {
+                listeners = NO_LISTENERS;
+                return;
+            }
+            Listener[] updated = new Listener[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, i);
+            System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+            listeners = updated;
+            return;
+        }
+    }
+
+    /**
+     * Dispatches a frame to every subscribed listener using the current {@link System#nanoTime()}.
+     */
+    public void frame() {
+        frame(System.nanoTime());
+    }
+
+    /**
+     * Dispatches a frame to every subscribed listener. Call this once per host frame.
+     *
+     * @param frameTimeNanos frame timestamp in nanoseconds, must be monotonic between calls
+     */
+    public void frame(long frameTimeNanos) {
+        this.frameTimeNanos = frameTimeNanos;
+        Listener[] current = listeners;
+        for (Listener listener : current) {
+            listener.onFrame(frameTimeNanos);
+        }
+    }
+
+    /**
+     * Gets the timestamp of the last dispatched frame.
+     *
+     * @return frame timestamp in nanoseconds, or 0 if no frame was dispatched yet
+     */
+    public long frameTimeNanos() {
+        return frameTimeNanos;
+    }
+
+    /**
+     * Checks whether any listener is subscribed to this clock.
+     *
+     * @return true if at least one listener is subscribed
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Listener notified on every frame dispatched by a {@link FrameClock}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called once per frame.
+         *
+         * @param frameTimeNanos frame timestamp in nanoseconds
+         */
+        void onFrame(long frameTimeNanos);
+    }
+}
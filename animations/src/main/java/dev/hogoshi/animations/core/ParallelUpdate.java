@@ -0,0 +1,131 @@
+package dev.hogoshi.animations.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Phaser;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+
+/**
+ * Runs the ticks of an executor with its animations split into ranges that are updated concurrently on a thread pool.
+ * The calling thread updates the first range itself and waits for the others before it removes finished animations,
+ * publishes values and completes futures, so all of these see the complete tick.
+ * The ranges and the barrier joining them are allocated once and reused every tick.
+ */
+public final class ParallelUpdate {
+    /**
+     * Executor whose animations are updated.
+     */
+    private final AbstractAnimationExecutor executor;
+
+    /**
+     * Ranges of animations updated concurrently, one per thread.
+     */
+    private final Partition[] partitions;
+
+    /**
+     * Smallest number of animations worth giving to a thread of their own.
+     */
+    private final int minimumPartitionSize;
+
+    /**
+     * Barrier the pool ranges arrive at, with the calling thread as its only permanent party.
+     */
+    private final Phaser barrier = new Phaser(1);
+
+    /**
+     * Creates the ranges for an executor.
+     *
+     * @param executor             executor whose animations are updated
+     * @param parallelism          largest number of ranges updated at once, including the calling thread
+     * @param minimumPartitionSize smallest number of animations per range
+     * @throws IllegalArgumentException if executor is null, or parallelism or minimumPartitionSize is not positive
+     */
+    public ParallelUpdate(@NotNull AbstractAnimationExecutor executor, int parallelism, int minimumPartitionSize) {
+        Validator.requireNonNull(executor, "Executor cannot be null");
+        Validator.requirePositive(parallelism, "Parallelism must be positive");
+        Validator.requirePositive(minimumPartitionSize, "Minimum partition size must be positive");
+        this.executor = executor;
+        this.minimumPartitionSize = minimumPartitionSize;
+        this.partitions = new Partition[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            partitions[i] = new Partition();
+        }
+    }
+
+    /**
+     * Runs a tick in parallel if there are enough animations for at least two ranges.
+     * The wait ignores interrupts and leaves the caller's interrupt status alone, the tick always waits for every range.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     * @param pool      threads updating every range but the first
+     * @return true if the tick ran, false if the caller should run an ordinary tick instead
+     * @throws RuntimeException the first failure of a range, after the whole tick was waited for
+     */
+    public boolean tick(double deltaTime, @NotNull Executor pool) {
+        AnimationStore store = executor.store;
+        int partitionCount = Math.min(partitions.length, store.size() / minimumPartitionSize);
+        if (partitionCount < 2) {
+            return false;
+        }
+        executor.recordTick(deltaTime);
+
+        barrier.bulkRegister(partitionCount - 1);
+        int partitionSize = (store.size() + partitionCount - 1) / partitionCount;
+        for (int index = 0; index < partitionCount; index++) {
+            Partition partition = partitions[index];
+            partition.from = Math.min(store.size(), index * partitionSize);
+            partition.to = Math.min(store.size(), partition.from + partitionSize);
+            partition.deltaTime = deltaTime;
+            partition.pooled = index > 0;
+            partition.failure = null;
+            if (index > 0) {
+                pool.execute(partition);
+            }
+        }
+        partitions[0].run();
+        barrier.awaitAdvance(barrier.arrive());
+
+        for (int index = 0; index < partitionCount; index++) {
+            RuntimeException failure = partitions[index].failure;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        executor.removeFinished();
+        executor.publishValues();
+        executor.completeFutures();
+        return true;
+    }
+
+    /**
+     * Range of animations updated by one thread during a parallel tick.
+     */
+    private final class Partition implements Runnable {
+        private int from;
+        private int to;
+        private double deltaTime;
+        private boolean pooled;
+        private RuntimeException failure;
+
+        @Override
+        public void run() {
+            try {
+                for (int index = from; index < to; index++) {
+                    AbstractAnimation animation = executor.store.get(index);
+                    double step = executor.scaledDelta(animation, deltaTime);
+                    if (step > 0) {
+                        executor.updateAnimation(animation, step);
+                    }
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                if (pooled) {
+                    barrier.arriveAndDeregister();
+                }
+            }
+        }
+    }
+}
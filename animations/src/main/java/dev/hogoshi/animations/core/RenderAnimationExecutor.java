@@ -1,39 +1,91 @@
 package dev.hogoshi.animations.core;
 
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
 /**
  * On-render implementation of SimpleAnimationExecutor that runs animations in a dedicated thread if parallel processing enabled.
  * Supports both single-threaded and parallel processing modes.
  * Use it if you want to update animations in frame render, instead of starting pretty slow lifecycle and waiting.
+ * Alternatively attach it to a {@link FrameClock} and let the clock call it on every frame.
+ * <p>
+ * With a {@link #fixedStep(double) fixed step} the elapsed time is collected in an accumulator and animations only
+ * advance in whole steps, e.g. at a 30 Hz simulation rate while rendering at 144 Hz. The time left in the accumulator
+ * is exposed as {@code alpha()}, which renderers pass to {@link Animation#interpolatedValue(double)} to blend the
+ * last two simulated values, so motion stays smooth at any refresh rate while updates cost only the simulation rate.
  */
+@Getter
+@Accessors(fluent = true)
 public class RenderAnimationExecutor extends SimpleAnimationExecutor {
-    
+    /**
+     * Simulation step in seconds, or 0 to advance animations by the variable frame time.
+     */
+    private double fixedStep = 0;
+
+    /**
+     * Elapsed time not yet simulated in fixed-step mode.
+     */
+    @Getter(AccessLevel.NONE)
+    private double accumulator = 0;
+
+    /**
+     * Fraction of a fixed step elapsed since the last simulated step, between 0 and 1.
+     * Always 1 without a fixed step, since the values are then up to date with every frame.
+     */
+    private double alpha = 1;
+
+    /**
+     * Sets a fixed simulation step. Steps never exceed {@link #MAX_DELTA_TIME} worth of catch-up per frame,
+     * so a stalled render loop doesn't cause a burst of updates.
+     *
+     * @param fixedStep step in seconds, or 0 to advance by the variable frame time
+     * @return this executor instance for method chaining
+     * @throws IllegalArgumentException if fixedStep is negative
+     */
+    public @NotNull RenderAnimationExecutor fixedStep(double fixedStep) {
+        Validator.requireInRange(fixedStep, 0, Double.MAX_VALUE, "Fixed step must be non-negative");
+        this.fixedStep = fixedStep;
+        this.accumulator = 0;
+        this.alpha = 1;
+        return this;
+    }
+
     @Override
     protected void start() {
-        isRunning = true;
+        if (!attachToClock()) {
+            markRunning();
+        }
     }
 
     /**
      * Important method. You should call this in frame render if you want to use this executor.
+     * Does nothing when the executor is driven by a frame clock.
      */
     public void update() {
-        if(!isRunning) return;
-        long currentTime = System.nanoTime();
-        double deltaTime = (currentTime - lastUpdateTime) / 1_000_000_000.0;
-        lastUpdateTime = currentTime;
-        
-        if (deltaTime > 0.1) {
-            deltaTime = 0.1;
+        if (!isRunning || frameClock != null) return;
+        tick(advanceTime(System.nanoTime()));
+    }
+
+    /**
+     * Updates all animations by the frame time, or by as many fixed steps as fit into the accumulated time.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    @Override
+    protected void tick(double deltaTime) {
+        if (fixedStep <= 0) {
+            super.tick(deltaTime);
+            return;
         }
-        
-        final double finalDeltaTime = deltaTime;
-        if (parallelProcessing) {
-            animations.forEach(animation ->
-                executorService.submit(() -> animation.update(finalDeltaTime)));
-        } else {
-            animations.forEach(animation -> animation.update(finalDeltaTime));
+        accumulator = Math.min(accumulator + deltaTime, Math.max(MAX_DELTA_TIME, fixedStep));
+        while (accumulator >= fixedStep) {
+            super.tick(fixedStep);
+            accumulator -= fixedStep;
         }
-        
-        animations.removeIf(animation -> animation.isFinished() && !animation.isRunning());
+        alpha = accumulator / fixedStep;
     }
-    
-}
\ No newline at end of file
+}
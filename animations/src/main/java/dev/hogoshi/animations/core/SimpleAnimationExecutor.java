@@ -1,13 +1,11 @@
 package dev.hogoshi.animations.core;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.jetbrains.annotations.NotNull;
 
-import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
@@ -17,12 +15,7 @@ import lombok.experimental.Accessors;
  */
 @Getter
 @Accessors(chain = true, fluent = true)
-public class SimpleAnimationExecutor implements AnimationExecutor {
-    /**
-     * List of currently running animations.
-     */
-    protected final List<AbstractAnimation> animations = new ArrayList<>();
-
+public class SimpleAnimationExecutor extends AbstractAnimationExecutor {
     /**
      * Whether animations should be processed in parallel.
      */
@@ -34,14 +27,10 @@ public class SimpleAnimationExecutor implements AnimationExecutor {
     protected ExecutorService executorService;
 
     /**
-     * Whether the executor is currently running.
+     * Splits parallel ticks into one range of animations per pool thread.
      */
-    protected boolean isRunning = false;
-
-    /**
-     * Timestamp of the last animation update.
-     */
-    protected long lastUpdateTime;
+    @Getter(AccessLevel.NONE)
+    private ParallelUpdate parallelUpdate;
 
     /**
      * Enables parallel processing of animations using a thread pool.
@@ -52,7 +41,9 @@ public class SimpleAnimationExecutor implements AnimationExecutor {
     public @NotNull SimpleAnimationExecutor parallelProcessing(boolean enabled) {
         this.parallelProcessing = enabled;
         if (enabled) {
-            this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            int threads = Runtime.getRuntime().availableProcessors();
+            this.executorService = Executors.newFixedThreadPool(threads);
+            this.parallelUpdate = new ParallelUpdate(this, threads, 1);
         } else if (this.executorService != null) {
             this.executorService.shutdown();
             this.executorService = null;
@@ -61,45 +52,21 @@ public class SimpleAnimationExecutor implements AnimationExecutor {
     }
 
     /**
-     * Executes the given animation.
-     *
-     * @param animation the animation to execute
-     * @throws IllegalArgumentException if animation is null
+     * Starts the animation loop in a dedicated thread, or subscribes to the frame clock if one is set.
      */
     @Override
-    public void execute(@NotNull AbstractAnimation animation) {
-        Validator.requireNonNull(animation, "Animation cannot be null");
-        animations.add(animation);
-        if (!isRunning) {
-            start();
-        }
-    }
-
-    /**
-     * Starts the animation loop in a dedicated thread.
-     */
     protected void start() {
-        isRunning = true;
-        lastUpdateTime = System.nanoTime();
-
-        while (isRunning && !animations.isEmpty()) {
-            long currentTime = System.nanoTime();
-            double deltaTime = (currentTime - lastUpdateTime) / 1_000_000_000.0;
-            lastUpdateTime = currentTime;
-
-            if (deltaTime > 0.1) {
-                deltaTime = 0.1;
-            }
+        if (attachToClock()) {
+            return;
+        }
+        markRunning();
 
-            final double finalDeltaTime = deltaTime;
-            if (parallelProcessing) {
-                animations.forEach(animation ->
-                        executorService.submit(() -> animation.update(finalDeltaTime)));
-            } else {
-                animations.forEach(animation -> animation.update(finalDeltaTime));
+        while (isRunning) {
+            if (store.isEmpty()) {
+                onIdle();
+                continue;
             }
-
-            animations.removeIf(animation -> animation.isFinished() && !animation.isRunning());
+            tick(advanceTime(System.nanoTime()));
 
             try {
                 Thread.sleep(1);
@@ -115,15 +82,28 @@ public class SimpleAnimationExecutor implements AnimationExecutor {
         isRunning = false;
     }
 
+    /**
+     * Updates all animations, splitting them with a {@link ParallelUpdate} into partitions updated concurrently on the thread pool
+     * if parallel processing is enabled. The tick waits for every partition before it removes finished animations,
+     * publishes values and completes futures, so all of these see the complete tick.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    @Override
+    protected void tick(double deltaTime) {
+        if (!parallelProcessing || !parallelUpdate.tick(deltaTime, executorService)) {
+            super.tick(deltaTime);
+        }
+    }
+
     /**
      * Stops all running animations and cleans up resources.
      */
     @Override
     public void stop() {
-        isRunning = false;
-        animations.clear();
+        super.stop();
         if (executorService != null) {
             executorService.shutdownNow();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,93 +1,452 @@
 package dev.hogoshi.animations.core;
 
-import java.util.ArrayList;
+import java.awt.Component;
+import java.awt.Rectangle;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
 
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
 /**
  * Implementation of AnimationExecutor that uses Swing's Timer for animation updates.
  * This executor is suitable for animations that need to update Swing components.
+ * When attached to a {@link FrameClock}, frames coming from other threads are forwarded to the event dispatch thread.
+ * <p>
+ * The timer runs at a target frame rate and backs off while the event dispatch thread lags behind, so animations
+ * don't starve input handling. Animations executed together with a component get their repaints coalesced into
+ * a single {@link Component#repaint(int, int, int, int)} per component per frame.
+ * <p>
+ * With background evaluation enabled, animation values are computed on a separate thread into a double-buffered
+ * frame, and a single {@link SwingUtilities#invokeLater(Runnable)} per frame delivers callbacks and repaints on the
+ * event dispatch thread. Frames are skipped while the event dispatch thread still applies the previous one.
+ * In this mode {@link #execute(AbstractAnimation)} and {@link #stop()} are expected to be called on the event dispatch thread.
  */
 @Getter
-@Accessors(chain = true)
-public class SwingAnimationExecutor implements AnimationExecutor {
+@Accessors(chain = true, fluent = true)
+public class SwingAnimationExecutor extends AbstractAnimationExecutor {
     /**
-     * List of currently running animations.
+     * Swing Timer used for scheduling animation updates.
      */
-    private final List<AbstractAnimation> animations = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final Timer timer;
 
     /**
-     * Swing Timer used for scheduling animation updates.
+     * Frame rate the timer aims for when the event dispatch thread keeps up.
      */
-    private final Timer timer;
+    private double targetFrameRate = 60;
+
+    /**
+     * Lowest frame rate the timer backs off to when the event dispatch thread lags behind.
+     */
+    private double minimumFrameRate = 15;
+
+    /**
+     * Moving average of how late timer events arrive on the event dispatch thread, in nanoseconds.
+     */
+    private long averageLatencyNanos;
+
+    /**
+     * Moving average of the time spent updating animations per frame, in nanoseconds.
+     */
+    private long averageTickNanos;
+
+    /**
+     * Whether animation values are computed off the event dispatch thread.
+     */
+    private boolean backgroundEvaluation;
+
+    /**
+     * Number of background frames skipped because the event dispatch thread was still busy with the previous one.
+     */
+    private volatile long droppedFrames;
+
+    /**
+     * Current interval between frames in nanoseconds.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile long frameIntervalNanos = frameIntervalNanos(targetFrameRate);
+
+    /**
+     * Timestamp of the last timer event.
+     */
+    @Getter(AccessLevel.NONE)
+    private long lastTimerTime;
+
+    /**
+     * Repaint targets of animations executed together with a component.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<AbstractAnimation, RepaintRegion> repaintRegions = new IdentityHashMap<>();
+
+    /**
+     * Components to repaint at the end of the current frame, with their accumulated dirty regions.
+     */
+    @Getter(AccessLevel.NONE)
+    private Component[] dirtyComponents = new Component[4];
+    @Getter(AccessLevel.NONE)
+    private Rectangle[] dirtyRegions = new Rectangle[4];
+    @Getter(AccessLevel.NONE)
+    private int dirtyCount;
+
+    /**
+     * Lock held by the evaluation thread while it updates animations, so stopping never clears the store mid-frame.
+     * The evaluation thread also holds the store's lock during the updates, so executing an animation on the event
+     * dispatch thread waits at most for the updates of one frame, never for callbacks or repaints.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Object tickLock = new Object();
 
     /**
-     * Whether the executor is currently running.
+     * Thread computing animation values in background mode.
      */
-    private boolean isRunning = false;
+    @Getter(AccessLevel.NONE)
+    private volatile Thread evaluationThread;
 
     /**
-     * Timestamp of the last animation update.
+     * Frame being filled by the evaluation thread and frame being applied on the event dispatch thread.
      */
-    private long lastUpdateTime;
+    @Getter(AccessLevel.NONE)
+    private ValueFrame backFrame = new ValueFrame();
+    @Getter(AccessLevel.NONE)
+    private ValueFrame frontFrame = new ValueFrame();
 
     /**
-     * Creates a new SwingAnimationExecutor with a 1ms update interval.
+     * Whether the front frame was published and not yet fully applied.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile boolean framePending;
+
+    /**
+     * Timestamp at which the front frame was published.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile long framePublishTime;
+
+    /**
+     * Records callbacks of background-evaluated animations into the back frame.
+     */
+    @Getter(AccessLevel.NONE)
+    private final CallbackDispatcher frameRecorder = new CallbackDispatcher() {
+        @Override
+        public void dispatchUpdate(@NotNull AbstractAnimation animation, double value) {
+            backFrame.add(animation, value, false);
+        }
+
+        @Override
+        public void dispatchComplete(@NotNull AbstractAnimation animation) {
+            backFrame.add(animation, 0, true);
+        }
+    };
+
+    /**
+     * Applies the front frame on the event dispatch thread.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Runnable applyFrameTask = this::applyFrame;
+
+    /**
+     * Latest clock frame waiting to be processed on the event dispatch thread.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile long pendingFrameTime;
+
+    /**
+     * Whether a clock frame is already queued on the event dispatch thread.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile boolean framePosted;
+
+    /**
+     * Processes the latest pending clock frame on the event dispatch thread.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Runnable pendingFrameTask = () -> {
+        framePosted = false;
+        super.onFrame(pendingFrameTime);
+    };
+
+    /**
+     * Creates a new SwingAnimationExecutor targeting 60 frames per second.
      */
     public SwingAnimationExecutor() {
-        timer = new Timer(1, e -> update());
+        timer = new Timer(frameDelayMillis(targetFrameRate), e -> onTimer());
         timer.setRepeats(true);
     }
 
+    /**
+     * Sets the frame rate the timer aims for.
+     *
+     * @param targetFrameRate frames per second
+     * @return this executor instance for method chaining
+     * @throws IllegalArgumentException if the frame rate is not positive
+     */
+    public @NotNull SwingAnimationExecutor targetFrameRate(double targetFrameRate) {
+        Validator.requirePositive(targetFrameRate, "Target frame rate must be positive");
+        this.targetFrameRate = targetFrameRate;
+        this.minimumFrameRate = Math.min(minimumFrameRate, targetFrameRate);
+        this.frameIntervalNanos = frameIntervalNanos(targetFrameRate);
+        timer.setDelay(frameDelayMillis(targetFrameRate));
+        return this;
+    }
+
+    /**
+     * Sets the lowest frame rate the timer backs off to under load.
+     *
+     * @param minimumFrameRate frames per second
+     * @return this executor instance for method chaining
+     * @throws IllegalArgumentException if the frame rate is not positive or above the target frame rate
+     */
+    public @NotNull SwingAnimationExecutor minimumFrameRate(double minimumFrameRate) {
+        Validator.requireInRange(minimumFrameRate, Double.MIN_VALUE, targetFrameRate,
+                "Minimum frame rate must be positive and not above the target frame rate");
+        this.minimumFrameRate = minimumFrameRate;
+        return this;
+    }
+
+    /**
+     * Enables computing animation values off the event dispatch thread.
+     * Callbacks are still delivered on the event dispatch thread, once per frame.
+     *
+     * @param backgroundEvaluation whether to evaluate animations on a background thread
+     * @return this executor instance for method chaining
+     * @throws IllegalStateException if the executor is running
+     */
+    public @NotNull SwingAnimationExecutor backgroundEvaluation(boolean backgroundEvaluation) {
+        if (isRunning) {
+            throw new IllegalStateException("Cannot change evaluation mode while running");
+        }
+        this.backgroundEvaluation = backgroundEvaluation;
+        return this;
+    }
+
+    /**
+     * Gets the frame rate the executor currently runs at.
+     *
+     * @return frames per second
+     */
+    public double frameRate() {
+        return 1_000_000_000.0 / frameIntervalNanos;
+    }
+
+    /**
+     * Gets the Swing timer scheduling animation updates.
+     *
+     * @return the timer
+     */
+    public @NotNull Timer timer() {
+        return timer;
+    }
+
+    /**
+     * Gets the Swing timer scheduling animation updates.
+     *
+     * @return the timer
+     * @deprecated use {@link #timer()}
+     */
+    @Deprecated
+    public @NotNull Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Gets a read-only view of the running animations.
+     *
+     * @return the running animations
+     * @deprecated use {@link #animations()}
+     */
+    @Deprecated
+    public @NotNull List<AbstractAnimation> getAnimations() {
+        return animations();
+    }
+
+    /**
+     * Gets the timestamp of the last animation update.
+     *
+     * @return the timestamp in nanoseconds
+     * @deprecated use {@link #lastUpdateTime()}
+     */
+    @Deprecated
+    public long getLastUpdateTime() {
+        return lastUpdateTime();
+    }
+
     /**
      * Executes the given animation.
+     * In background mode the animation is picked up by the next frame of the evaluation thread.
      *
      * @param animation the animation to execute
-     * @throws IllegalArgumentException if animation is null
+     * @return a handle to cancel, pause or resume the animation
+     * @throws IllegalArgumentException if animation is null or already running in an executor
      */
     @Override
-    public void execute(@NotNull AbstractAnimation animation) {
+    public @NotNull AnimationHandle execute(@NotNull AbstractAnimation animation) {
+        if (!backgroundEvaluation) {
+            return super.execute(animation);
+        }
+        Validator.requireNonNull(animation, "Animation cannot be null");
+        animation.dispatcher = frameRecorder;
+        AnimationHandle handle = super.execute(animation);
+        start();
+        return handle;
+    }
+
+    /**
+     * Executes the given animation and repaints the whole component on every frame the animation changes.
+     *
+     * @param animation the animation to execute
+     * @param component the component affected by the animation
+     * @return a handle to cancel, pause or resume the animation
+     * @throws IllegalArgumentException if animation or component is null
+     */
+    public @NotNull AnimationHandle execute(@NotNull AbstractAnimation animation, @NotNull Component component) {
+        return execute(animation, component, null);
+    }
+
+    /**
+     * Executes the given animation and repaints the dirty region of the component on every frame the animation changes.
+     * Regions of all animations affecting the same component are merged into a single repaint per frame.
+     *
+     * @param animation the animation to execute
+     * @param component the component affected by the animation
+     * @param region    the region of the component affected by the animation, or null for the whole component
+     * @return a handle to cancel, pause or resume the animation
+     * @throws IllegalArgumentException if animation or component is null, or the animation is already running in an executor
+     */
+    public @NotNull AnimationHandle execute(@NotNull AbstractAnimation animation, @NotNull Component component, @Nullable Rectangle region) {
+        Validator.requireNonNull(component, "Component cannot be null");
         Validator.requireNonNull(animation, "Animation cannot be null");
-        animations.add(animation);
-        if (!isRunning) {
-            start();
+        RepaintRegion previous = repaintRegions.put(animation, new RepaintRegion(component, region == null ? null : new Rectangle(region)));
+        try {
+            return execute(animation);
+        } catch (RuntimeException e) {
+            if (previous != null) {
+                repaintRegions.put(animation, previous);
+            } else {
+                repaintRegions.remove(animation);
+            }
+            throw e;
         }
     }
 
     /**
-     * Starts the animation timer.
+     * Starts the animation timer, or subscribes to the frame clock if one is set.
      */
-    private void start() {
-        isRunning = true;
-        lastUpdateTime = System.nanoTime();
+    @Override
+    protected synchronized void start() {
+        if (isRunning) return;
+        frameIntervalNanos = frameIntervalNanos(targetFrameRate);
+        if (attachToClock()) {
+            return;
+        }
+        markRunning();
+        if (backgroundEvaluation) {
+            Thread thread = new Thread(this::evaluate, "Swing Animation Evaluator");
+            thread.setDaemon(true);
+            evaluationThread = thread;
+            thread.start();
+            return;
+        }
+        lastTimerTime = 0;
+        timer.setDelay(frameDelayMillis(targetFrameRate));
         timer.start();
     }
 
     /**
-     * Updates all running animations with the elapsed time since last update.
+     * Updates all running animations on the event dispatch thread.
+     * Frames arriving from other threads are coalesced, so only the latest one is processed.
+     *
+     * @param frameTimeNanos frame timestamp in nanoseconds
      */
-    private void update() {
-        long currentTime = System.nanoTime();
-        double deltaTime = (currentTime - lastUpdateTime) / 1_000_000_000.0;
-        lastUpdateTime = currentTime;
+    @Override
+    public void onFrame(long frameTimeNanos) {
+        if (backgroundEvaluation) {
+            if (framePending) {
+                droppedFrames++;
+                return;
+            }
+            super.onFrame(frameTimeNanos);
+            return;
+        }
+        if (SwingUtilities.isEventDispatchThread()) {
+            super.onFrame(frameTimeNanos);
+            return;
+        }
+        pendingFrameTime = frameTimeNanos;
+        if (!framePosted) {
+            framePosted = true;
+            SwingUtilities.invokeLater(pendingFrameTask);
+        }
+    }
 
-        if (deltaTime > 0.1) {
-            deltaTime = 0.1;
+    /**
+     * Updates all animations and repaints the components they affected.
+     *
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    @Override
+    protected void tick(double deltaTime) {
+        if (!backgroundEvaluation) {
+            super.tick(deltaTime);
+            flushRepaints();
+            return;
+        }
+        recordTick(deltaTime);
+        synchronized (tickLock) {
+            synchronized (store) {
+                updateAll(deltaTime);
+                publishValues();
+            }
         }
+        publishFrame();
+        completeFutures();
+    }
+
+    /**
+     * Updates a single animation and marks its repaint region dirty if it reported a new value.
+     *
+     * @param animation the animation to update
+     * @param deltaTime time elapsed since last update in seconds
+     */
+    @Override
+    protected void updateAnimation(@NotNull AbstractAnimation animation, double deltaTime) {
+        if (animation.paused || animation.cancelled) return;
+        long suppressedBefore = animation.getSuppressedUpdates();
+        super.updateAnimation(animation, deltaTime);
+        if (backgroundEvaluation || repaintRegions.isEmpty()) return;
+
+        boolean finished = animation.isFinished();
+        if (!animation.isRunning() && !finished) return;
+        if (!finished && animation.getSuppressedUpdates() != suppressedBefore) return;
 
-        double finalDeltaTime = deltaTime;
-        animations.forEach(animation -> animation.update(finalDeltaTime));
-        animations.removeIf(animation -> animation.isFinished() && !animation.isRunning());
+        RepaintRegion region = finished ? repaintRegions.remove(animation) : repaintRegions.get(animation);
+        if (region != null) {
+            markDirty(region.component, region.bounds);
+        }
+    }
 
-        if (animations.isEmpty()) {
-            stop();
+    /**
+     * Forgets the repaint region of a cancelled or interrupted animation. Finished animations release theirs when they complete.
+     *
+     * @param animation the removed animation
+     */
+    @Override
+    protected void onRemoved(@NotNull AbstractAnimation animation) {
+        if (!animation.cancelled && animation.isFinished() || repaintRegions.isEmpty()) return;
+        if (backgroundEvaluation) {
+            SwingUtilities.invokeLater(() -> repaintRegions.remove(animation));
+        } else {
+            repaintRegions.remove(animation);
         }
     }
 
@@ -96,8 +455,246 @@ public class SwingAnimationExecutor implements AnimationExecutor {
      */
     @Override
     public void stop() {
-        isRunning = false;
-        timer.stop();
-        animations.clear();
+        if (backgroundEvaluation) {
+            synchronized (this) {
+                isRunning = false;
+                evaluationThread = null;
+                if (frameClock != null) {
+                    frameClock.unsubscribe(this);
+                }
+            }
+            synchronized (tickLock) {
+                store.clear();
+            }
+        } else {
+            super.stop();
+            timer.stop();
+        }
+        repaintRegions.clear();
+    }
+
+    /**
+     * Stops the timer or the evaluation thread once no animations are left, unless new ones were executed concurrently.
+     */
+    @Override
+    protected synchronized void onIdle() {
+        super.onIdle();
+        if (isRunning) return;
+        if (backgroundEvaluation) {
+            evaluationThread = null;
+        } else {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Runs background frames at the current frame rate until the executor stops or another thread takes over.
+     */
+    private void evaluate() {
+        Thread current = Thread.currentThread();
+        while (isRunning && evaluationThread == current) {
+            long frameStart = System.nanoTime();
+            onFrame(frameStart);
+            long remaining = frameIntervalNanos - (System.nanoTime() - frameStart);
+            if (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * Swaps the frame buffers and schedules the filled frame to be applied on the event dispatch thread.
+     */
+    private void publishFrame() {
+        ValueFrame frame = backFrame;
+        if (frame.size == 0) return;
+        backFrame = frontFrame;
+        frontFrame = frame;
+        framePending = true;
+        framePublishTime = System.nanoTime();
+        SwingUtilities.invokeLater(applyFrameTask);
+    }
+
+    /**
+     * Delivers the callbacks recorded in the front frame, repaints affected components and releases the frame.
+     */
+    private void applyFrame() {
+        long start = System.nanoTime();
+        averageLatencyNanos += (start - framePublishTime - averageLatencyNanos) / 8;
+
+        ValueFrame frame = frontFrame;
+        for (int i = 0; i < frame.size; i++) {
+            AbstractAnimation animation = frame.animations[i];
+            if (frame.completions[i]) {
+                repaintRegions.remove(animation);
+                animation.dispatcher = null;
+                animation.deliverComplete();
+            } else {
+                animation.deliverUpdate(frame.values[i]);
+                RepaintRegion region = repaintRegions.get(animation);
+                if (region != null) {
+                    markDirty(region.component, region.bounds);
+                }
+            }
+        }
+        frame.clear();
+        flushRepaints();
+        framePending = false;
+
+        averageTickNanos += (System.nanoTime() - start - averageTickNanos) / 8;
+        adaptFrameRate();
+    }
+
+    /**
+     * Handles a timer event, measuring how late it arrived and adapting the frame rate.
+     */
+    private void onTimer() {
+        long now = System.nanoTime();
+        if (lastTimerTime != 0) {
+            long latency = Math.max(0, now - lastTimerTime - timer.getDelay() * 1_000_000L);
+            averageLatencyNanos += (latency - averageLatencyNanos) / 8;
+        }
+        lastTimerTime = now;
+
+        onFrame(now);
+
+        averageTickNanos += (System.nanoTime() - now - averageTickNanos) / 8;
+        adaptFrameRate();
+    }
+
+    /**
+     * Stretches the frame interval while the event dispatch thread lags behind or ticks get expensive,
+     * keeping animation work under about half of its time, and recovers towards the target rate afterwards.
+     */
+    private void adaptFrameRate() {
+        if (!isRunning) return;
+        long targetInterval = frameIntervalNanos(targetFrameRate);
+        long maximumInterval = frameIntervalNanos(minimumFrameRate);
+        long interval = Math.min(Math.max(targetInterval, 2 * (averageLatencyNanos + averageTickNanos)), maximumInterval);
+        frameIntervalNanos = interval;
+        if (backgroundEvaluation) return;
+        int delay = (int) Math.max(1, interval / 1_000_000L);
+        if (timer.getDelay() != delay) {
+            timer.setDelay(delay);
+        }
+    }
+
+    /**
+     * Adds a region to the component's dirty area for the current frame.
+     *
+     * @param component the component to repaint
+     * @param bounds    the dirty region, or null for the whole component
+     */
+    private void markDirty(Component component, Rectangle bounds) {
+        for (int i = 0; i < dirtyCount; i++) {
+            if (dirtyComponents[i] != component) continue;
+            Rectangle dirty = dirtyRegions[i];
+            if (bounds == null) {
+                dirty.setBounds(0, 0, component.getWidth(), component.getHeight());
+            } else {
+                dirty.add(bounds);
+            }
+            return;
+        }
+
+        if (dirtyCount == dirtyComponents.length) {
+            Component[] components = new Component[dirtyCount * 2];
+            Rectangle[] regions = new Rectangle[dirtyCount * 2];
+            System.arraycopy(dirtyComponents, 0, components, 0, dirtyCount);
+            System.arraycopy(dirtyRegions, 0, regions, 0, dirtyCount);
+            dirtyComponents = components;
+            dirtyRegions = regions;
+        }
+        Rectangle dirty = dirtyRegions[dirtyCount];
+        if (dirty == null) {
+            dirty = dirtyRegions[dirtyCount] = new Rectangle();
+        }
+        if (bounds == null) {
+            dirty.setBounds(0, 0, component.getWidth(), component.getHeight());
+        } else {
+            dirty.setBounds(bounds);
+        }
+        dirtyComponents[dirtyCount++] = component;
+    }
+
+    /**
+     * Issues one repaint per dirty component and resets the dirty state.
+     */
+    private void flushRepaints() {
+        for (int i = 0; i < dirtyCount; i++) {
+            Rectangle dirty = dirtyRegions[i];
+            dirtyComponents[i].repaint(dirty.x, dirty.y, dirty.width, dirty.height);
+            dirtyComponents[i] = null;
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * Computes the timer delay for the given frame rate.
+     *
+     * @param frameRate frames per second
+     * @return delay in milliseconds, at least 1
+     */
+    private static int frameDelayMillis(double frameRate) {
+        return (int) Math.max(1, Math.round(1000.0 / frameRate));
+    }
+
+    /**
+     * Computes the frame interval for the given frame rate.
+     *
+     * @param frameRate frames per second
+     * @return interval in nanoseconds
+     */
+    private static long frameIntervalNanos(double frameRate) {
+        return (long) (1_000_000_000L / frameRate);
+    }
+
+    /**
+     * Callbacks recorded during one background frame, in the order they were fired.
+     */
+    private static final class ValueFrame {
+        private AbstractAnimation[] animations = new AbstractAnimation[16];
+        private double[] values = new double[16];
+        private boolean[] completions = new boolean[16];
+        private int size;
+
+        private void add(AbstractAnimation animation, double value, boolean completion) {
+            if (size == animations.length) {
+                int capacity = size * 2;
+                AbstractAnimation[] grownAnimations = new AbstractAnimation[capacity];
+                double[] grownValues = new double[capacity];
+                boolean[] grownCompletions = new boolean[capacity];
+                System.arraycopy(animations, 0, grownAnimations, 0, size);
+                System.arraycopy(values, 0, grownValues, 0, size);
+                System.arraycopy(completions, 0, grownCompletions, 0, size);
+                animations = grownAnimations;
+                values = grownValues;
+                completions = grownCompletions;
+            }
+            animations[size] = animation;
+            values[size] = value;
+            completions[size] = completion;
+            size++;
+        }
+
+        private void clear() {
+            for (int i = 0; i < size; i++) {
+                animations[i] = null;
+            }
+            size = 0;
+        }
+    }
+
+    /**
+     * Component and region repainted when an animation changes.
+     */
+    private static final class RepaintRegion {
+        private final Component component;
+        private final Rectangle bounds;
+
+        private RepaintRegion(Component component, Rectangle bounds) {
+            this.component = component;
+            this.bounds = bounds;
+        }
     }
-} 
\ No newline at end of file
+}
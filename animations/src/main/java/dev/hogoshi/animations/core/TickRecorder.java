@@ -0,0 +1,217 @@
+package dev.hogoshi.animations.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Records the ticks of an executor to a memory-mapped, append-only log of bounded size, to reproduce timing issues
+ * with {@link TickReplayer} or analyze them offline. Install it with {@link AbstractAnimationExecutor#recorder(TickRecorder)}.
+ * <p>
+ * Every tick records its clock timestamp and time step, every executed animation its id, duration and delay,
+ * every update the animation's value and every removal whether the animation finished or was cancelled.
+ * Ids are the animations' slots in the executor's store, which are reused once an animation was removed.
+ * Records are writes into the mapped file with no system calls or allocation. Every record is appended under the
+ * recorder's monitor, since executions are recorded on the thread calling {@code execute} and parallel executors
+ * record updates from their pool threads. With a single executor thread the monitor is uncontended and costs
+ * one cheap lock per record, so recording stays enabled in production; with parallel updates the pool threads
+ * contend for it once per updated animation.
+ * Once the log is full further records are dropped and counted.
+ * <p>
+ * The file starts with the {@link #MAGIC} int, the {@link #VERSION} byte and three padding bytes,
+ * followed by the long end offset of the recorded data. Records follow at offset {@value #HEADER_SIZE},
+ * each a one byte type and the fields listed with the type constants, in big-endian order.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class TickRecorder implements Closeable {
+    /**
+     * Marks a tick log file.
+     */
+    public static final int MAGIC = 0x414E544C;
+
+    /**
+     * Version of the log format.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Size of the file header in bytes.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * Tick record: long clock timestamp in nanoseconds, double time step in seconds.
+     */
+    public static final byte TICK = 1;
+
+    /**
+     * Execution record: int id, double duration in seconds, double delay in seconds.
+     */
+    public static final byte EXECUTE = 2;
+
+    /**
+     * Value record: int id, double value after the update.
+     */
+    public static final byte VALUE = 3;
+
+    /**
+     * Removal record: int id, byte 1 if the animation was cancelled or 0 if it finished.
+     */
+    public static final byte REMOVE = 4;
+
+    /**
+     * Offset of the end offset field in the header.
+     */
+    static final int END_OFFSET = 8;
+
+    /**
+     * Mapped log file.
+     */
+    @Getter(AccessLevel.NONE)
+    private final MappedByteBuffer log;
+
+    /**
+     * Channel of the log file, kept open until the recorder is closed.
+     */
+    @Getter(AccessLevel.NONE)
+    private final FileChannel channel;
+
+    /**
+     * Number of records dropped because the log was full.
+     */
+    private volatile long droppedRecords;
+
+    /**
+     * Creates a recorder writing to the given file, replacing its contents.
+     *
+     * @param file     log file
+     * @param capacity maximum size of the log in bytes
+     * @throws IOException              if the file can't be created or mapped
+     * @throws IllegalArgumentException if file is null or capacity is too small for the header
+     */
+    public TickRecorder(@NotNull Path file, long capacity) throws IOException {
+        Validator.requireNonNull(file, "File cannot be null");
+        Validator.requireInRange(capacity, HEADER_SIZE + 1, Integer.MAX_VALUE, "Capacity must fit the header and at most 2 GiB");
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.log = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        log.putInt(MAGIC);
+        log.put(VERSION);
+        ((Buffer) log).position(HEADER_SIZE);
+        log.putLong(END_OFFSET, HEADER_SIZE);
+    }
+
+    /**
+     * Gets the number of bytes recorded, including the header.
+     *
+     * @return the size of the recorded log
+     */
+    public synchronized int size() {
+        return log.position();
+    }
+
+    /**
+     * Checks whether the log is full and records are being dropped.
+     *
+     * @return true if at least one record was dropped
+     */
+    public synchronized boolean isFull() {
+        return droppedRecords > 0;
+    }
+
+    /**
+     * Records a tick.
+     *
+     * @param timeNanos clock timestamp of the tick in nanoseconds
+     * @param deltaTime time step in seconds
+     */
+    synchronized void tick(long timeNanos, double deltaTime) {
+        if (reserve(1 + Long.BYTES + Double.BYTES)) {
+            log.put(TICK).putLong(timeNanos).putDouble(deltaTime);
+            commit();
+        }
+    }
+
+    /**
+     * Records the execution of an animation.
+     *
+     * @param animation the executed animation, already stored
+     */
+    synchronized void executed(@NotNull AbstractAnimation animation) {
+        if (reserve(1 + Integer.BYTES + Double.BYTES * 2)) {
+            double duration = animation.config != null ? animation.config.duration() : 0;
+            log.put(EXECUTE).putInt(animation.slot).putDouble(duration).putDouble(animation.delay);
+            commit();
+        }
+    }
+
+    /**
+     * Records the value of an animation after an update.
+     *
+     * @param animation the updated animation
+     */
+    synchronized void updated(@NotNull AbstractAnimation animation) {
+        if (reserve(1 + Integer.BYTES + Double.BYTES)) {
+            double value = animation instanceof Animation ? ((Animation) animation).getCurrentValue() : animation.currentTime;
+            log.put(VALUE).putInt(animation.slot).putDouble(value);
+            commit();
+        }
+    }
+
+    /**
+     * Records the removal of an animation.
+     *
+     * @param slot      id of the removed animation
+     * @param cancelled whether the animation was cancelled rather than finished
+     */
+    synchronized void removed(int slot, boolean cancelled) {
+        if (reserve(1 + Integer.BYTES + 1)) {
+            log.put(REMOVE).putInt(slot).put((byte) (cancelled ? 1 : 0));
+            commit();
+        }
+    }
+
+    /**
+     * Flushes the log to the file and releases the file.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        log.force();
+        channel.close();
+    }
+
+    /**
+     * Checks that a record fits into the log, counting it as dropped otherwise.
+     *
+     * @param size size of the record in bytes
+     * @return true if the record fits
+     */
+    private boolean reserve(int size) {
+        if (log.remaining() < size) {
+            droppedRecords++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Publishes the end of the recorded data in the header, so readers of a crashed process find the last record.
+     */
+    private void commit() {
+        log.putLong(END_OFFSET, log.position());
+    }
+}
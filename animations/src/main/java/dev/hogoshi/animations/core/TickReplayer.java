@@ -0,0 +1,166 @@
+package dev.hogoshi.animations.core;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.utility.Validator;
+
+/**
+ * Reads a log written by {@link TickRecorder}, either to analyze it or to feed the recorded ticks back into an executor.
+ * Replaying uses the recorded time steps as a virtual clock, so the executor sees exactly the timing of the recording
+ * regardless of the current machine's speed or thread scheduling.
+ */
+public class TickReplayer {
+    /**
+     * Recorded data, positioned at the first record.
+     */
+    private final ByteBuffer log;
+
+    /**
+     * Maps a tick log for reading.
+     *
+     * @param file log file written by a {@link TickRecorder}
+     * @throws IOException              if the file can't be read or is not a tick log
+     * @throws IllegalArgumentException if file is null
+     */
+    public TickReplayer(@NotNull Path file) throws IOException {
+        Validator.requireNonNull(file, "File cannot be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.remaining() < TickRecorder.HEADER_SIZE || mapped.getInt(0) != TickRecorder.MAGIC) {
+                throw new IOException("Not a tick log");
+            }
+            if (mapped.get(Integer.BYTES) != TickRecorder.VERSION) {
+                throw new IOException("Unsupported tick log version " + mapped.get(Integer.BYTES));
+            }
+            long end = mapped.getLong(TickRecorder.END_OFFSET);
+            if (end < TickRecorder.HEADER_SIZE || end > mapped.capacity()) {
+                throw new IOException("Corrupt tick log end offset " + end);
+            }
+            ((Buffer) mapped).limit((int) end).position(TickRecorder.HEADER_SIZE);
+            this.log = mapped;
+        }
+    }
+
+    /**
+     * Reports every record of the log in order.
+     *
+     * @param visitor receives the records
+     * @throws IllegalStateException if the log contains an unknown record
+     */
+    public void read(@NotNull Visitor visitor) {
+        Validator.requireNonNull(visitor, "Visitor cannot be null");
+        ByteBuffer records = log.duplicate();
+        while (records.hasRemaining()) {
+            byte type = records.get();
+            switch (type) {
+                case TickRecorder.TICK:
+                    visitor.onTick(records.getLong(), records.getDouble());
+                    break;
+                case TickRecorder.EXECUTE:
+                    visitor.onExecute(records.getInt(), records.getDouble(), records.getDouble());
+                    break;
+                case TickRecorder.VALUE:
+                    visitor.onValue(records.getInt(), records.getDouble());
+                    break;
+                case TickRecorder.REMOVE:
+                    visitor.onRemove(records.getInt(), records.get() != 0);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown tick log record " + type);
+            }
+        }
+    }
+
+    /**
+     * Replays the log into an executor: animations are executed where the recording executed them,
+     * and every recorded tick advances the executor by the recorded time step.
+     * Use an executor that doesn't tick on its own, such as a {@link RenderAnimationExecutor} that is not updated.
+     *
+     * @param executor  executor to drive
+     * @param registrar recreates the recorded animations
+     */
+    public void replay(@NotNull AbstractAnimationExecutor executor, @NotNull Registrar registrar) {
+        Validator.requireNonNull(executor, "Executor cannot be null");
+        Validator.requireNonNull(registrar, "Registrar cannot be null");
+        read(new Visitor() {
+            @Override
+            public void onTick(long timeNanos, double deltaTime) {
+                executor.advance(deltaTime);
+            }
+
+            @Override
+            public void onExecute(int id, double duration, double delay) {
+                AbstractAnimation animation = registrar.create(id, duration, delay);
+                if (animation != null) {
+                    executor.execute(animation);
+                }
+            }
+        });
+    }
+
+    /**
+     * Receives the records of a tick log. All methods do nothing by default.
+     */
+    public interface Visitor {
+        /**
+         * Called for every tick.
+         *
+         * @param timeNanos clock timestamp of the tick in nanoseconds
+         * @param deltaTime time step in seconds
+         */
+        default void onTick(long timeNanos, double deltaTime) {
+        }
+
+        /**
+         * Called for every executed animation.
+         *
+         * @param id       id of the animation until it is removed
+         * @param duration configured duration in seconds
+         * @param delay    remaining delay in seconds
+         */
+        default void onExecute(int id, double duration, double delay) {
+        }
+
+        /**
+         * Called for every animation update.
+         *
+         * @param id    id of the animation
+         * @param value the animation's value after the update, or its progress for non-{@link Animation} animations
+         */
+        default void onValue(int id, double value) {
+        }
+
+        /**
+         * Called for every removed animation.
+         *
+         * @param id        id of the animation, free for reuse from now on
+         * @param cancelled whether the animation was cancelled rather than finished
+         */
+        default void onRemove(int id, boolean cancelled) {
+        }
+    }
+
+    /**
+     * Recreates recorded animations during a replay.
+     */
+    @FunctionalInterface
+    public interface Registrar {
+        /**
+         * Creates the animation for an execution record.
+         *
+         * @param id       id of the recorded animation
+         * @param duration recorded duration in seconds
+         * @param delay    recorded remaining delay in seconds
+         * @return the animation to execute, or null to skip it
+         */
+        @Nullable AbstractAnimation create(int id, double duration, double delay);
+    }
+}
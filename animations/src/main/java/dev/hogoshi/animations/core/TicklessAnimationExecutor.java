@@ -0,0 +1,293 @@
+package dev.hogoshi.animations.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Pull-based executor that never updates animations per frame.
+ * Animations are started in tickless mode and compute their value when read through
+ * {@link Animation#valueAt(long)} or {@link Animation#currentValue()}, typically at paint time.
+ * The executor only keeps completion deadlines in a priority queue and fires the completion callbacks,
+ * so its thread sleeps until the next animation ends.
+ * <p>
+ * Update callbacks are only called once, with the final value. Only {@link Animation} instances are supported.
+ * Cancelling through the returned handle or by group removes the animation right away, frozen at its current value,
+ * without calling the completion callback; pausing has no effect on tickless animations.
+ */
+@Getter
+@Accessors(chain = true, fluent = true)
+public class TicklessAnimationExecutor implements AnimationExecutor, FrameClock.Listener {
+    /**
+     * Running animations ordered by completion deadline.
+     */
+    @Getter(AccessLevel.NONE)
+    private final PriorityQueue<Animation> deadlines =
+            new PriorityQueue<>(Comparator.comparingLong(Animation::completionTimeNanos));
+
+    /**
+     * Store handing out handles for the running animations.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AnimationStore store = new AnimationStore();
+
+    /**
+     * Frame clock polling the deadlines, or null to use a dedicated waiting thread.
+     */
+    private FrameClock frameClock;
+
+    /**
+     * Thread waiting for the next deadline, or null if not started or driven by a frame clock.
+     */
+    @Getter(AccessLevel.NONE)
+    private Thread thread;
+
+    /**
+     * Whether the executor is currently running.
+     */
+    private volatile boolean isRunning = false;
+
+    /**
+     * Creates a tickless executor waiting for deadlines on its own thread unless a frame clock is set.
+     */
+    public TicklessAnimationExecutor() {
+        store.cancellationListener(this::removeCancelled);
+    }
+
+    /**
+     * Makes this executor check deadlines on every frame of the given clock instead of a waiting thread.
+     * Takes effect the next time the executor starts.
+     *
+     * @param frameClock frame clock to subscribe to, or null to use a waiting thread
+     * @return this executor instance for method chaining
+     */
+    public @NotNull TicklessAnimationExecutor frameClock(@Nullable FrameClock frameClock) {
+        this.frameClock = frameClock;
+        return this;
+    }
+
+    /**
+     * Starts the animation in tickless mode and schedules its completion.
+     *
+     * @param animation the animation to execute, must be an {@link Animation}
+     * @return a handle to cancel the animation
+     * @throws IllegalArgumentException if animation is null, not an {@link Animation} or already running in an executor
+     */
+    @Override
+    public @NotNull AnimationHandle execute(@NotNull AbstractAnimation animation) {
+        Validator.requireNonNull(animation, "Animation cannot be null");
+        if (!(animation instanceof Animation)) {
+            throw new IllegalArgumentException("Tickless executor only supports Animation instances");
+        }
+        AnimationHandle handle = store.add(animation);
+        Animation tickless = ((Animation) animation).startAt(System.nanoTime());
+        synchronized (deadlines) {
+            deadlines.add(tickless);
+            if (!isRunning) {
+                start();
+            }
+            deadlines.notifyAll();
+        }
+        return handle;
+    }
+
+    /**
+     * Starts waiting for deadlines, either on the frame clock or on a daemon thread.
+     */
+    private void start() {
+        isRunning = true;
+        if (frameClock != null) {
+            frameClock.subscribe(this);
+            return;
+        }
+        thread = new Thread(this::waitForDeadlines, "Tickless Animation Executor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Fires the completions that are due at the frame timestamp and unsubscribes once no animations are left.
+     *
+     * @param frameTimeNanos frame timestamp in nanoseconds
+     */
+    @Override
+    public void onFrame(long frameTimeNanos) {
+        completeDue(frameTimeNanos);
+        synchronized (deadlines) {
+            if (isRunning && deadlines.isEmpty()) {
+                isRunning = false;
+                frameClock.unsubscribe(this);
+            }
+        }
+    }
+
+    /**
+     * Loop of the waiting thread: sleeps until the earliest deadline and fires the completions that are due.
+     * The thread ends once no animations are left and is started again by the next execution.
+     */
+    private void waitForDeadlines() {
+        Thread current = Thread.currentThread();
+        while (true) {
+            synchronized (deadlines) {
+                if (thread != current) {
+                    return;
+                }
+                Animation next = deadlines.peek();
+                if (next == null) {
+                    isRunning = false;
+                    thread = null;
+                    return;
+                }
+                long remaining = next.completionTimeNanos() - System.nanoTime();
+                if (remaining > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(deadlines, remaining);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            completeDue(System.nanoTime());
+        }
+    }
+
+    /**
+     * Removes the animations whose deadlines passed and completes them outside the lock,
+     * so callbacks may execute new animations. Their completion futures are completed in one batch afterwards.
+     * The due animations are collected per call, since a stopped waiting thread may still be finishing
+     * its last check while the thread of the next start runs its first.
+     *
+     * @param nowNanos current clock timestamp in nanoseconds
+     */
+    private void completeDue(long nowNanos) {
+        List<Animation> due = null;
+        synchronized (deadlines) {
+            Animation next;
+            while ((next = deadlines.peek()) != null && next.completionTimeNanos() <= nowNanos) {
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                due.add(deadlines.poll());
+            }
+        }
+        if (due == null) {
+            return;
+        }
+        List<CompletableFuture<Void>> completions = new ArrayList<>(due.size());
+        for (Animation animation : due) {
+            store.remove(animation);
+            if (animation.cancelled) {
+                animation.freeze();
+            } else {
+                animation.finish();
+            }
+            CompletableFuture<Void> completion = animation.takeCompletion();
+            if (completion != null) {
+                completions.add(completion);
+            }
+        }
+        for (CompletableFuture<Void> completion : completions) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Removes cancelled animations from the deadline queue and the store, freezing them at their current value,
+     * and completes their completion futures outside the lock.
+     */
+    private void removeCancelled() {
+        List<CompletableFuture<Void>> completions = null;
+        synchronized (deadlines) {
+            for (Iterator<Animation> iterator = deadlines.iterator(); iterator.hasNext(); ) {
+                Animation animation = iterator.next();
+                if (!animation.cancelled) {
+                    continue;
+                }
+                iterator.remove();
+                store.remove(animation);
+                animation.freeze();
+                CompletableFuture<Void> completion = animation.takeCompletion();
+                if (completion != null) {
+                    if (completions == null) {
+                        completions = new ArrayList<>();
+                    }
+                    completions.add(completion);
+                }
+            }
+        }
+        if (completions != null) {
+            for (CompletableFuture<Void> completion : completions) {
+                completion.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Cancels every running animation of the given group without calling their completion callbacks.
+     *
+     * @param group group key set with {@link AbstractAnimation#withGroup(Object)}
+     * @return the number of cancelled animations
+     * @throws IllegalArgumentException if group is null
+     */
+    public int cancelGroup(@NotNull Object group) {
+        Validator.requireNonNull(group, "Group cannot be null");
+        int cancelled = store.cancelGroup(group);
+        if (cancelled > 0) {
+            removeCancelled();
+        }
+        return cancelled;
+    }
+
+    /**
+     * Counts the running animations of the given group.
+     *
+     * @param group group key set with {@link AbstractAnimation#withGroup(Object)}
+     * @return the number of running animations in the group
+     * @throws IllegalArgumentException if group is null
+     */
+    public int count(@NotNull Object group) {
+        Validator.requireNonNull(group, "Group cannot be null");
+        return store.count(group);
+    }
+
+    /**
+     * Checks how many animations are waiting for their completion.
+     *
+     * @return the number of pending animations
+     */
+    public int pendingCount() {
+        synchronized (deadlines) {
+            return deadlines.size();
+        }
+    }
+
+    /**
+     * Stops all running animations without completing them and releases the waiting thread.
+     */
+    @Override
+    public void stop() {
+        synchronized (deadlines) {
+            isRunning = false;
+            deadlines.clear();
+            store.clear();
+            thread = null;
+            deadlines.notifyAll();
+            if (frameClock != null) {
+                frameClock.unsubscribe(this);
+            }
+        }
+    }
+}
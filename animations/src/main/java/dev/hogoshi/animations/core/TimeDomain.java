@@ -0,0 +1,109 @@
+package dev.hogoshi.animations.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Node of a time hierarchy that scales or pauses every animation attached to it and to its descendants,
+ * e.g. global, then screen, then component. The effective scale is the product of the scales up to the root,
+ * and a paused domain stops all of its descendants.
+ * <p>
+ * Executors keep the animations of each domain together and resolve the effective scale once per domain per tick,
+ * so pausing a domain skips its animations entirely.
+ */
+@Getter
+@Accessors(fluent = true)
+public class TimeDomain {
+    /**
+     * Parent domain, or null for a root domain.
+     */
+    private final TimeDomain parent;
+
+    /**
+     * Speed of this domain relative to its parent, 1 being normal speed.
+     */
+    private volatile double scale = 1.0;
+
+    /**
+     * Whether this domain is paused.
+     */
+    private volatile boolean paused = false;
+
+    /**
+     * Creates a root time domain.
+     */
+    public TimeDomain() {
+        this(null);
+    }
+
+    /**
+     * Creates a time domain nested in the given parent.
+     *
+     * @param parent parent domain, or null for a root domain
+     */
+    public TimeDomain(@Nullable TimeDomain parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a time domain nested in this one.
+     *
+     * @return the new child domain
+     */
+    public @NotNull TimeDomain child() {
+        return new TimeDomain(this);
+    }
+
+    /**
+     * Sets the speed of this domain relative to its parent.
+     *
+     * @param scale time scale, e.g. 0.5 for half speed, or 0 to stop time
+     * @return this domain instance for method chaining
+     * @throws IllegalArgumentException if scale is negative
+     */
+    public @NotNull TimeDomain scale(double scale) {
+        Validator.requireInRange(scale, 0, Double.MAX_VALUE, "Scale must be non-negative");
+        this.scale = scale;
+        return this;
+    }
+
+    /**
+     * Pauses this domain and all of its descendants.
+     *
+     * @return this domain instance for method chaining
+     */
+    public @NotNull TimeDomain pause() {
+        this.paused = true;
+        return this;
+    }
+
+    /**
+     * Resumes this domain. Descendants stay paused if another ancestor is paused.
+     *
+     * @return this domain instance for method chaining
+     */
+    public @NotNull TimeDomain resume() {
+        this.paused = false;
+        return this;
+    }
+
+    /**
+     * Computes the scale applied to animations of this domain, taking all ancestors into account.
+     *
+     * @return the effective time scale, 0 if this domain or an ancestor is paused
+     */
+    public double effectiveScale() {
+        double effective = 1.0;
+        for (TimeDomain domain = this; domain != null; domain = domain.parent) {
+            if (domain.paused) {
+                return 0;
+            }
+            effective *= domain.scale;
+        }
+        return effective;
+    }
+}
@@ -0,0 +1,249 @@
+package dev.hogoshi.animations.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+
+/**
+ * Publishes the values of an executor's animations after every tick, for consistent reads from any thread.
+ * Install it with {@link AbstractAnimationExecutor#valueSnapshot(ValueSnapshot)}; a snapshot serves one executor.
+ * <p>
+ * The executor writes the value, time and running state of every animation into a primitive array indexed by the
+ * animation's slot, guarded by a sequence lock: the sequence is odd while a tick is being published and even once
+ * it is complete. Readers copy the entries they need and retry if the sequence changed meanwhile, so they always see
+ * the state of one completed tick without locks, and neither side allocates once the array fits all slots.
+ * Animations show up from the first tick after they were executed. Finished and cancelled animations keep their
+ * last values with the running state cleared until their slot is reused.
+ */
+public final class ValueSnapshot {
+    /**
+     * Number of longs per slot: generation, value bits, time bits and flags.
+     */
+    private static final int STRIDE = 4;
+
+    /**
+     * Flag of entries written by a tick.
+     */
+    private static final long PUBLISHED = 1;
+
+    /**
+     * Flag of entries whose animation was running at the end of the tick.
+     */
+    private static final long RUNNING = 2;
+
+    /**
+     * Sequence lock, odd while the executor publishes a tick.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Published entries, {@value #STRIDE} per slot. Replaced by a larger array while publishing if slots don't fit.
+     */
+    private volatile AtomicLongArray entries = new AtomicLongArray(16 * STRIDE);
+
+    /**
+     * Animations removed since the last publication, written with their final values by the next one.
+     */
+    private AbstractAnimation[] removed = new AbstractAnimation[8];
+
+    /**
+     * Slots of the removed animations.
+     */
+    private int[] removedSlots = new int[8];
+
+    /**
+     * Generations of the removed animations' slots before the removal.
+     */
+    private int[] removedGenerations = new int[8];
+
+    /**
+     * Number of pending removed animations.
+     */
+    private int removedCount;
+
+    /**
+     * Gets the number of ticks published so far.
+     *
+     * @return the number of completed publications
+     */
+    public long ticks() {
+        long current;
+        do {
+            current = sequence.get();
+        } while ((current & 1) != 0);
+        return current >> 1;
+    }
+
+    /**
+     * Gets the published value of an animation: the current value of an {@link Animation}, the progress otherwise.
+     *
+     * @param handle handle returned when the animation was executed
+     * @return the value at the latest completed tick, or NaN if the animation was not published
+     */
+    public double value(@NotNull AnimationHandle handle) {
+        return read(handle, 1);
+    }
+
+    /**
+     * Gets the published progress of an animation.
+     *
+     * @param handle handle returned when the animation was executed
+     * @return the time position between 0 and 1 at the latest completed tick, or NaN if the animation was not published
+     */
+    public double currentTime(@NotNull AnimationHandle handle) {
+        return read(handle, 2);
+    }
+
+    /**
+     * Checks whether an animation was running at the latest completed tick.
+     *
+     * @param handle handle returned when the animation was executed
+     * @return true if the animation was published and running
+     */
+    public boolean isRunning(@NotNull AnimationHandle handle) {
+        Validator.requireNonNull(handle, "Handle cannot be null");
+        int base = handle.slot * STRIDE;
+        long start;
+        long flags;
+        do {
+            start = sequence.get();
+            AtomicLongArray entries = this.entries;
+            flags = base < entries.length() && entries.get(base) == handle.generation ? entries.get(base + 3) : 0;
+        } while ((start & 1) != 0 || sequence.get() != start);
+        return (flags & RUNNING) != 0;
+    }
+
+    /**
+     * Copies the published values of several animations, all from the same tick.
+     *
+     * @param handles handles of the animations
+     * @param out     array receiving the value of each handle, or NaN for animations that were not published
+     * @return the number of the tick the values belong to, as counted by {@link #ticks()}
+     * @throws IllegalArgumentException if an array is null or out is shorter than handles
+     */
+    public long values(@NotNull AnimationHandle[] handles, @NotNull double[] out) {
+        Validator.requireNonNull(handles, "Handles cannot be null");
+        Validator.requireNonNull(out, "Output cannot be null");
+        if (out.length < handles.length) {
+            throw new IllegalArgumentException("Output must have room for every handle");
+        }
+        long start;
+        do {
+            start = sequence.get();
+            AtomicLongArray entries = this.entries;
+            for (int i = 0; i < handles.length; i++) {
+                out[i] = entry(entries, handles[i], 1);
+            }
+        } while ((start & 1) != 0 || sequence.get() != start);
+        return start >> 1;
+    }
+
+    /**
+     * Reads one field of an animation's entry consistently.
+     *
+     * @param handle handle of the animation
+     * @param field  index of the field within the entry
+     * @return the field as a double, or NaN if the animation was not published
+     */
+    private double read(AnimationHandle handle, int field) {
+        Validator.requireNonNull(handle, "Handle cannot be null");
+        long start;
+        double result;
+        do {
+            start = sequence.get();
+            result = entry(this.entries, handle, field);
+        } while ((start & 1) != 0 || sequence.get() != start);
+        return result;
+    }
+
+    /**
+     * Reads one field of an entry without checking the sequence.
+     *
+     * @param entries published entries
+     * @param handle  handle of the animation
+     * @param field   index of the field within the entry
+     * @return the field as a double, or NaN if the entry belongs to another animation or was never written
+     */
+    private static double entry(AtomicLongArray entries, AnimationHandle handle, int field) {
+        int base = handle.slot * STRIDE;
+        if (base >= entries.length() || entries.get(base) != handle.generation
+                || (entries.get(base + 3) & PUBLISHED) == 0) {
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(entries.get(base + field));
+    }
+
+    /**
+     * Remembers an animation about to be removed, so the next publication still writes its final values.
+     * Called on the executor thread.
+     *
+     * @param animation the animation, still stored
+     */
+    void removing(@NotNull AbstractAnimation animation) {
+        if (removedCount == removed.length) {
+            removed = Arrays.copyOf(removed, removedCount * 2);
+            removedSlots = Arrays.copyOf(removedSlots, removedCount * 2);
+            removedGenerations = Arrays.copyOf(removedGenerations, removedCount * 2);
+        }
+        removed[removedCount] = animation;
+        removedSlots[removedCount] = animation.slot;
+        removedGenerations[removedCount] = animation.generation;
+        removedCount++;
+    }
+
+    /**
+     * Publishes the state of all stored animations and of the animations removed since the last publication.
+     * Called on the executor thread at the end of a tick. Takes no locks: slots and generations are read from the
+     * animations, which the store sets before they become visible to the executor.
+     *
+     * @param store store of the executor
+     */
+    void publish(@NotNull AnimationStore store) {
+        long start = sequence.incrementAndGet();
+        AtomicLongArray entries = this.entries;
+        for (int i = 0; i < removedCount; i++) {
+            entries = write(entries, removedSlots[i], removedGenerations[i], removed[i]);
+            removed[i] = null;
+        }
+        removedCount = 0;
+        for (int i = store.size() - 1; i >= 0; i--) {
+            AbstractAnimation animation = store.get(i);
+            int slot = animation.slot;
+            if (slot >= 0) {
+                entries = write(entries, slot, animation.generation, animation);
+            }
+        }
+        sequence.lazySet(start + 1);
+    }
+
+    /**
+     * Writes the entry of one animation, growing the entry array if the slot doesn't fit.
+     *
+     * @param entries    current entries
+     * @param slot       slot of the animation
+     * @param generation generation of the slot
+     * @param animation  the animation
+     * @return the entries, replaced if they had to grow
+     */
+    private AtomicLongArray write(AtomicLongArray entries, int slot, int generation, AbstractAnimation animation) {
+        int base = slot * STRIDE;
+        if (base >= entries.length()) {
+            AtomicLongArray grown = new AtomicLongArray(Math.max(entries.length() * 2, base + STRIDE));
+            for (int i = 0; i < entries.length(); i++) {
+                grown.lazySet(i, entries.get(i));
+            }
+            this.entries = grown;
+            entries = grown;
+        }
+        double value = animation instanceof Animation ? ((Animation) animation).getCurrentValue() : animation.currentTime;
+        entries.lazySet(base, generation);
+        entries.lazySet(base + 1, Double.doubleToRawLongBits(value));
+        entries.lazySet(base + 2, Double.doubleToRawLongBits(animation.currentTime));
+        entries.lazySet(base + 3, PUBLISHED | (animation.isRunning && !animation.cancelled ? RUNNING : 0));
+        return entries;
+    }
+}
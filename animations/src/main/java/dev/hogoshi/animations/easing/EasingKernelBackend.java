@@ -0,0 +1,40 @@
+package dev.hogoshi.animations.easing;
+
+/**
+ * Implementation behind {@link EasingKernels}, selected per runtime.
+ * This version always runs the scalar kernels. On Java 17+ the multi-release jar replaces only this class
+ * with one that switches to the SIMD kernels when the vector API is available.
+ * Every kernel processes the elements from 0 (inclusive) to {@code length} (exclusive); arguments are already validated.
+ */
+final class EasingKernelBackend {
+    private EasingKernelBackend() {
+    }
+
+    static boolean isVectorized() {
+        return false;
+    }
+
+    static void lerp(double[] from, double[] to, double[] progress, double[] out, int length) {
+        ScalarEasingKernels.lerp(from, to, progress, out, 0, length);
+    }
+
+    static void powIn(double[] values, double[] out, int length, int power) {
+        ScalarEasingKernels.powIn(values, out, 0, length, power);
+    }
+
+    static void powOut(double[] values, double[] out, int length, int power) {
+        ScalarEasingKernels.powOut(values, out, 0, length, power);
+    }
+
+    static void powBoth(double[] values, double[] out, int length, int power) {
+        ScalarEasingKernels.powBoth(values, out, 0, length, power);
+    }
+
+    static void cubicBezier(double p1, double p2, double[] values, double[] out, int length) {
+        ScalarEasingKernels.cubicBezier(p1, p2, values, out, 0, length);
+    }
+
+    static void cubicBezierEase(double p1x, double p1y, double p2x, double p2y, double[] values, double[] out, int length) {
+        ScalarEasingKernels.cubicBezierEase(p1x, p1y, p2x, p2y, values, out, 0, length);
+    }
+}
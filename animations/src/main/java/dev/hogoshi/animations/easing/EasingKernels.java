@@ -0,0 +1,143 @@
+package dev.hogoshi.animations.easing;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+
+/**
+ * Batch versions of the common easing math, evaluating whole arrays of values at once.
+ * Large animation sets can gather their progress values into an array and ease them in one call.
+ * <p>
+ * The executors don't use these kernels: each animation carries its own {@link Easing} and reports its value
+ * through its own callbacks, so a tick has no arrays to batch. The kernels are a standalone API for code that
+ * keeps its own columns of progress values, such as particle systems or custom renderers.
+ * <p>
+ * On Java 17+ runtimes started with {@code --add-modules jdk.incubator.vector}, the multi-release
+ * jar swaps in a SIMD backend behind these methods. Otherwise the plain scalar loops are used.
+ */
+public final class EasingKernels {
+    /**
+     * Number of bisection steps used to solve cubic Bezier curves for x.
+     */
+    static final int BISECTION_STEPS = 20;
+
+    private EasingKernels() {
+    }
+
+    /**
+     * Checks whether the kernels run on the vector API.
+     *
+     * @return true if SIMD kernels are in use
+     */
+    public static boolean isVectorized() {
+        return EasingKernelBackend.isVectorized();
+    }
+
+    /**
+     * Interpolates between start and end values: {@code out[i] = from[i] + (to[i] - from[i]) * progress[i]}.
+     *
+     * @param from     start values
+     * @param to       end values
+     * @param progress interpolation factors, typically eased times
+     * @param out      array receiving the results, may be one of the inputs
+     * @param length   number of elements to process
+     * @throws IllegalArgumentException if length exceeds any of the arrays
+     */
+    public static void lerp(@NotNull double[] from, @NotNull double[] to, @NotNull double[] progress, @NotNull double[] out, int length) {
+        requireLength(length, from, to, progress, out);
+        EasingKernelBackend.lerp(from, to, progress, out, length);
+    }
+
+    /**
+     * Batch version of {@link Easings#powIn(int)}.
+     *
+     * @param values input values in range [0,1]
+     * @param out    array receiving the eased values, may be the input array
+     * @param length number of elements to process
+     * @param power  non-negative power to use
+     * @throws IllegalArgumentException if length exceeds any of the arrays or power is negative
+     */
+    public static void powIn(@NotNull double[] values, @NotNull double[] out, int length, int power) {
+        requireLength(length, values, out);
+        Validator.requireInRange(power, 0, Integer.MAX_VALUE, "Power must be non-negative");
+        EasingKernelBackend.powIn(values, out, length, power);
+    }
+
+    /**
+     * Batch version of {@link Easings#powOut(int)}.
+     *
+     * @param values input values in range [0,1]
+     * @param out    array receiving the eased values, may be the input array
+     * @param length number of elements to process
+     * @param power  non-negative power to use
+     * @throws IllegalArgumentException if length exceeds any of the arrays or power is negative
+     */
+    public static void powOut(@NotNull double[] values, @NotNull double[] out, int length, int power) {
+        requireLength(length, values, out);
+        Validator.requireInRange(power, 0, Integer.MAX_VALUE, "Power must be non-negative");
+        EasingKernelBackend.powOut(values, out, length, power);
+    }
+
+    /**
+     * Batch version of {@link Easings#powBoth(double)} for integer powers.
+     *
+     * @param values input values in range [0,1]
+     * @param out    array receiving the eased values, may be the input array
+     * @param length number of elements to process
+     * @param power  non-negative power to use
+     * @throws IllegalArgumentException if length exceeds any of the arrays or power is negative
+     */
+    public static void powBoth(@NotNull double[] values, @NotNull double[] out, int length, int power) {
+        requireLength(length, values, out);
+        Validator.requireInRange(power, 0, Integer.MAX_VALUE, "Power must be non-negative");
+        EasingKernelBackend.powBoth(values, out, length, power);
+    }
+
+    /**
+     * Evaluates one coordinate of a cubic Bezier curve from 0 to 1 at the given curve parameters.
+     *
+     * @param p1     coordinate of the first control point
+     * @param p2     coordinate of the second control point
+     * @param values curve parameters in range [0,1]
+     * @param out    array receiving the coordinates, may be the input array
+     * @param length number of elements to process
+     * @throws IllegalArgumentException if length exceeds any of the arrays
+     */
+    public static void cubicBezier(double p1, double p2, @NotNull double[] values, @NotNull double[] out, int length) {
+        requireLength(length, values, out);
+        EasingKernelBackend.cubicBezier(p1, p2, values, out, length);
+    }
+
+    /**
+     * Batch version of a {@link dev.hogoshi.animations.easing.bezier.implementation.CubicBezier} easing:
+     * solves the curve for each x and returns the matching y.
+     *
+     * @param p1x    x-coordinate of the first control point
+     * @param p1y    y-coordinate of the first control point
+     * @param p2x    x-coordinate of the second control point
+     * @param p2y    y-coordinate of the second control point
+     * @param values x-coordinates in range [0,1]
+     * @param out    array receiving the y-coordinates, may be the input array
+     * @param length number of elements to process
+     * @throws IllegalArgumentException if length exceeds any of the arrays
+     */
+    public static void cubicBezierEase(double p1x, double p1y, double p2x, double p2y,
+                                       @NotNull double[] values, @NotNull double[] out, int length) {
+        requireLength(length, values, out);
+        EasingKernelBackend.cubicBezierEase(p1x, p1y, p2x, p2y, values, out, length);
+    }
+
+    /**
+     * Validates that the length fits into every array.
+     *
+     * @param length number of elements to process
+     * @param arrays arrays to check
+     * @throws IllegalArgumentException if length is negative or exceeds any of the arrays
+     */
+    static void requireLength(int length, double[]... arrays) {
+        for (double[] array : arrays) {
+            Validator.requireNonNull(array, "Array cannot be null");
+            Validator.requireInRange(length, 0, array.length, "Length exceeds array size");
+        }
+    }
+}
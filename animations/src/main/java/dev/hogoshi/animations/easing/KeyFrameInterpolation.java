@@ -0,0 +1,23 @@
+package dev.hogoshi.animations.easing;
+
+/**
+ * How {@link KeyFramesEasing} interpolates between keyframes.
+ */
+public enum KeyFrameInterpolation {
+    /**
+     * Straight lines between keyframes, optionally reshaped by each keyframe's easing.
+     */
+    LINEAR,
+
+    /**
+     * Catmull-Rom spline through all keyframes. Tangents follow the neighbouring keyframes,
+     * so motion is smooth but may overshoot between keyframes. Keyframe easings are ignored to keep the slope continuous.
+     */
+    CATMULL_ROM,
+
+    /**
+     * Monotone cubic spline through all keyframes (Fritsch-Carlson). Smooth like {@link #CATMULL_ROM},
+     * but never overshoots: values between two keyframes stay within their range.
+     */
+    MONOTONE_CUBIC
+}
@@ -0,0 +1,98 @@
+package dev.hogoshi.animations.easing;
+
+/**
+ * Cubic spline construction shared by the keyframe samplers.
+ * Values are strided, channel {@code c} of keyframe {@code k} being at {@code k * channels + c},
+ * and segments are cubic Hermite curves stored in power basis over the segment's local time from 0 to 1.
+ */
+final class KeyFrameSplines {
+    private KeyFrameSplines() {
+    }
+
+    /**
+     * Computes the spline coefficients of every segment and channel.
+     *
+     * @param times         keyframe times in ascending order
+     * @param values        strided keyframe values
+     * @param channels      number of channels
+     * @param interpolation spline interpolation, not {@link KeyFrameInterpolation#LINEAR}
+     * @return four coefficients per segment and channel, highest degree first,
+     * channel {@code c} of segment {@code s} starting at {@code (s * channels + c) * 4}
+     */
+    static double[] coefficients(double[] times, double[] values, int channels, KeyFrameInterpolation interpolation) {
+        int count = times.length;
+        int segments = Math.max(count - 1, 0);
+        double[] result = new double[segments * channels * 4];
+        double[] tangents = new double[count];
+        double[] slopes = new double[segments];
+        for (int channel = 0; channel < channels; channel++) {
+            tangents(times, values, channels, channel, interpolation, slopes, tangents);
+            for (int i = 0; i < segments; i++) {
+                double duration = times[i + 1] - times[i];
+                double from = values[i * channels + channel];
+                double to = values[(i + 1) * channels + channel];
+                double startSlope = tangents[i] * duration;
+                double endSlope = tangents[i + 1] * duration;
+                int base = (i * channels + channel) * 4;
+                result[base] = 2 * (from - to) + startSlope + endSlope;
+                result[base + 1] = 3 * (to - from) - 2 * startSlope - endSlope;
+                result[base + 2] = startSlope;
+                result[base + 3] = from;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates one spline segment with Horner's method.
+     *
+     * @param coefficients spline coefficients
+     * @param base         offset of the segment's coefficients
+     * @param time         local time of the segment from 0 to 1
+     * @return the interpolated value
+     */
+    static double evaluate(double[] coefficients, int base, double time) {
+        return ((coefficients[base] * time + coefficients[base + 1]) * time + coefficients[base + 2]) * time
+                + coefficients[base + 3];
+    }
+
+    /**
+     * Computes the slope of one channel at every keyframe, as value change per unit of time.
+     *
+     * @param times         keyframe times
+     * @param values        strided keyframe values
+     * @param channels      number of channels
+     * @param channel       channel to compute
+     * @param interpolation spline interpolation
+     * @param slopes        scratch array receiving the slope of each segment
+     * @param tangents      array receiving the slope at each keyframe
+     */
+    private static void tangents(double[] times, double[] values, int channels, int channel,
+                                 KeyFrameInterpolation interpolation, double[] slopes, double[] tangents) {
+        int count = times.length;
+        if (count < 2) {
+            return;
+        }
+
+        for (int i = 0; i < count - 1; i++) {
+            slopes[i] = (values[(i + 1) * channels + channel] - values[i * channels + channel]) / (times[i + 1] - times[i]);
+        }
+        tangents[0] = slopes[0];
+        tangents[count - 1] = slopes[count - 2];
+
+        for (int i = 1; i < count - 1; i++) {
+            if (interpolation == KeyFrameInterpolation.CATMULL_ROM) {
+                tangents[i] = (values[(i + 1) * channels + channel] - values[(i - 1) * channels + channel])
+                        / (times[i + 1] - times[i - 1]);
+            } else if (slopes[i - 1] * slopes[i] <= 0) {
+                tangents[i] = 0;
+            } else {
+                // Weighted harmonic mean of the neighbouring slopes, which keeps every segment monotone.
+                double before = times[i] - times[i - 1];
+                double after = times[i + 1] - times[i];
+                tangents[i] = 3 * (before + after)
+                        / ((2 * after + before) / slopes[i - 1] + (after + 2 * before) / slopes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package dev.hogoshi.animations.easing;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Keyframes of several channels sharing one time index, e.g. x, y, scale, rotation and alpha of a transform.
+ * <p>
+ * All channels share a single sorted time array and store their values interleaved in one primitive array,
+ * so sampling is one binary search for all channels, writing every channel into an output array.
+ * Spline interpolation precomputes the cubic coefficients of every segment and channel like {@link KeyFramesEasing},
+ * and likewise ignores keyframe easings, which only reshape segment time with linear interpolation.
+ * Times may use any unit, e.g. the progress of an animation driving the track, or seconds.
+ * Tracks are immutable and can be shared by any number of animations and threads.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class KeyFrameTrack {
+    /**
+     * Number of channels.
+     */
+    private final int channels;
+
+    /**
+     * Interpolation between keyframes.
+     */
+    private final KeyFrameInterpolation interpolation;
+
+    /**
+     * Keyframe times in ascending order.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] times;
+
+    /**
+     * Keyframe values, channel {@code c} of keyframe {@code k} at {@code k * channels + c}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] values;
+
+    /**
+     * Keyframe easings reshaping the local time of the segment starting at each keyframe, null for linear time.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Easing[] easings;
+
+    /**
+     * Spline coefficients laid out by {@link KeyFrameSplines#coefficients}, or null for linear interpolation.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] coefficients;
+
+    private KeyFrameTrack(int channels, KeyFrameInterpolation interpolation, double[] times, double[] values, Easing[] easings) {
+        this.channels = channels;
+        this.interpolation = interpolation;
+        this.times = times;
+        this.values = values;
+        this.easings = easings;
+        this.coefficients = interpolation == KeyFrameInterpolation.LINEAR
+                ? null
+                : KeyFrameSplines.coefficients(times, values, channels, interpolation);
+    }
+
+    /**
+     * Starts building a track with the given number of channels.
+     *
+     * @param channels number of values per keyframe
+     * @return a builder for the track
+     * @throws IllegalArgumentException if channels is not positive
+     */
+    public static @NotNull Builder builder(int channels) {
+        return new Builder(channels);
+    }
+
+    /**
+     * Gets the number of keyframes.
+     *
+     * @return the number of keyframes
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * Gets the time of the first keyframe.
+     *
+     * @return the start time
+     */
+    public double startTime() {
+        return times[0];
+    }
+
+    /**
+     * Gets the time of the last keyframe.
+     *
+     * @return the end time
+     */
+    public double endTime() {
+        return times[times.length - 1];
+    }
+
+    /**
+     * Samples every channel at the given time. Times outside the track hold the first or last keyframe.
+     *
+     * @param time sampling time
+     * @param out  array receiving one value per channel
+     */
+    public void sample(double time, @NotNull double[] out) {
+        sample(time, out, 0);
+    }
+
+    /**
+     * Samples every channel at the given time into part of an array, e.g. to sample many tracks into one buffer.
+     *
+     * @param time   sampling time
+     * @param out    array receiving one value per channel
+     * @param offset index of the first channel in the output array
+     */
+    public void sample(double time, @NotNull double[] out, int offset) {
+        int last = times.length - 1;
+        if (!(time > times[0])) {
+            System.arraycopy(values, 0, out, offset, channels);
+            return;
+        }
+        if (time >= times[last]) {
+            System.arraycopy(values, last * channels, out, offset, channels);
+            return;
+        }
+
+        int segment = Arrays.binarySearch(times, time);
+        if (segment >= 0) {
+            System.arraycopy(values, segment * channels, out, offset, channels);
+            return;
+        }
+        segment = -segment - 2;
+
+        double segmentTime = (time - times[segment]) / (times[segment + 1] - times[segment]);
+        int from = segment * channels;
+        if (coefficients == null) {
+            if (easings[segment] != null) {
+                segmentTime = easings[segment].ease(segmentTime);
+            }
+            int to = from + channels;
+            for (int channel = 0; channel < channels; channel++) {
+                double start = values[from + channel];
+                out[offset + channel] = start + (values[to + channel] - start) * segmentTime;
+            }
+        } else {
+            for (int channel = 0; channel < channels; channel++) {
+                out[offset + channel] = KeyFrameSplines.evaluate(coefficients, (from + channel) * 4, segmentTime);
+            }
+        }
+    }
+
+    /**
+     * Builder collecting the keyframes of a track in ascending time order.
+     */
+    public static final class Builder {
+        private final int channels;
+        private KeyFrameInterpolation interpolation = KeyFrameInterpolation.LINEAR;
+        private double[] times = new double[8];
+        private double[] values;
+        private Easing[] easings = new Easing[8];
+        private int size;
+
+        private Builder(int channels) {
+            Validator.requirePositive(channels, "Channel count must be positive");
+            this.channels = channels;
+            this.values = new double[8 * channels];
+        }
+
+        /**
+         * Sets the interpolation between keyframes.
+         *
+         * @param interpolation interpolation mode
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if interpolation is null
+         */
+        public @NotNull Builder interpolation(@NotNull KeyFrameInterpolation interpolation) {
+            Validator.requireNonNull(interpolation, "Interpolation cannot be null");
+            this.interpolation = interpolation;
+            return this;
+        }
+
+        /**
+         * Appends a keyframe.
+         *
+         * @param time   keyframe time, greater than the previous keyframe's
+         * @param values one value per channel
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if time is not ascending or the value count doesn't match the channels
+         */
+        public @NotNull Builder keyframe(double time, @NotNull double... values) {
+            return keyframe(time, null, values);
+        }
+
+        /**
+         * Appends a keyframe whose easing reshapes the time of the segment up to the next keyframe.
+         * Spline interpolation ignores the easing.
+         *
+         * @param time   keyframe time, greater than the previous keyframe's
+         * @param easing easing of the following segment, or null for linear time
+         * @param values one value per channel
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if time is not ascending or the value count doesn't match the channels
+         */
+        public @NotNull Builder keyframe(double time, @Nullable Easing easing, @NotNull double... values) {
+            Validator.requireNonNull(values, "Values cannot be null");
+            if (values.length != channels) {
+                throw new IllegalArgumentException("Expected " + channels + " values, got " + values.length);
+            }
+            if (Double.isNaN(time) || Double.isInfinite(time)) {
+                throw new IllegalArgumentException("Keyframe time must be finite");
+            }
+            if (size > 0 && time <= times[size - 1]) {
+                throw new IllegalArgumentException("Keyframes must be in ascending time order");
+            }
+
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                easings = Arrays.copyOf(easings, size * 2);
+                this.values = Arrays.copyOf(this.values, size * 2 * channels);
+            }
+            times[size] = time;
+            easings[size] = easing;
+            System.arraycopy(values, 0, this.values, size * channels, channels);
+            size++;
+            return this;
+        }
+
+        /**
+         * Builds the track and precomputes its spline coefficients.
+         *
+         * @return the immutable track
+         * @throws IllegalArgumentException if no keyframe was added
+         */
+        public @NotNull KeyFrameTrack build() {
+            Validator.requirePositive(size, "Track must have at least one keyframe");
+            return new KeyFrameTrack(channels, interpolation, Arrays.copyOf(times, size),
+                    Arrays.copyOf(values, size * channels), Arrays.copyOf(easings, size));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.hogoshi.animations.easing;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -8,38 +9,112 @@ import org.jetbrains.annotations.NotNull;
 import dev.hogoshi.animations.model.KeyFrame;
 import dev.hogoshi.animations.utility.Validator;
 
+/**
+ * Easing passing through a list of keyframes, interpolated linearly or with a cubic spline.
+ * <p>
+ * Keyframes are copied into primitive arrays at construction. Spline modes also precompute the cubic coefficients
+ * of every segment, so each sample is one binary search over the keyframe times and one Horner evaluation.
+ * With linear interpolation, a keyframe's easing reshapes the local time of the segment starting at it.
+ * Spline modes ignore keyframe easings, since reshaping the time of each segment would break the continuous
+ * slope the spline is built for.
+ * <p>
+ * Times before the first keyframe hold the first value and times after the last keyframe hold the last value.
+ */
 public class KeyFramesEasing implements Easing {
     private final List<KeyFrame> keyframes;
 
+    /**
+     * Interpolation between keyframes.
+     */
+    private final KeyFrameInterpolation interpolation;
+
+    /**
+     * Keyframe times in ascending order.
+     */
+    private final double[] times;
+
+    /**
+     * Keyframe values.
+     */
+    private final double[] values;
+
+    /**
+     * Keyframe easings, null entries for linear segment time. Only used with linear interpolation.
+     */
+    private final Easing[] easings;
+
+    /**
+     * Cubic coefficients of each segment over its local time, four per segment with the highest degree first,
+     * or null for linear interpolation.
+     */
+    private final double[] coefficients;
+
     public KeyFramesEasing(@NotNull List<KeyFrame> keyframes) {
+        this(keyframes, KeyFrameInterpolation.LINEAR);
+    }
+
+    /**
+     * Creates a keyframe easing with the given interpolation.
+     *
+     * @param keyframes     keyframes in ascending time order, with times between 0 and 1
+     * @param interpolation interpolation between keyframes
+     * @throws IllegalArgumentException if keyframes are null, empty or out of order, or interpolation is null
+     */
+    public KeyFramesEasing(@NotNull List<KeyFrame> keyframes, @NotNull KeyFrameInterpolation interpolation) {
         Validator.requireNonNull(keyframes, "Keyframes cannot be null");
         Validator.requireNonEmpty(keyframes, "Keyframes cannot be empty");
         Validator.requireValidKeyFrames(keyframes);
+        Validator.requireNonNull(interpolation, "Interpolation cannot be null");
         this.keyframes = new ArrayList<>(keyframes);
+        this.interpolation = interpolation;
+
+        int count = keyframes.size();
+        this.times = new double[count];
+        this.values = new double[count];
+        this.easings = new Easing[count];
+        for (int i = 0; i < count; i++) {
+            KeyFrame keyframe = keyframes.get(i);
+            times[i] = keyframe.getTime();
+            values[i] = keyframe.getValue();
+            easings[i] = keyframe.getEasing();
+        }
+        this.coefficients = interpolation == KeyFrameInterpolation.LINEAR
+                ? null
+                : KeyFrameSplines.coefficients(times, values, 1, interpolation);
     }
 
     @Override
     public double ease(double time) {
-        if (time <= 0) return keyframes.get(0).getValue();
-        if (time >= 1) return keyframes.get(keyframes.size() - 1).getValue();
-
-        for (int i = 0; i < keyframes.size() - 1; i++) {
-            KeyFrame current = keyframes.get(i);
-            KeyFrame next = keyframes.get(i + 1);
-
-            if (time >= current.getTime() && time <= next.getTime()) {
-                double segmentTime = (time - current.getTime()) / (next.getTime() - current.getTime());
-                if (current.getEasing() != null) {
-                    segmentTime = current.getEasing().ease(segmentTime);
-                }
-                return current.getValue() + (next.getValue() - current.getValue()) * segmentTime;
-            }
+        int last = times.length - 1;
+        if (time <= 0 || time <= times[0]) return values[0];
+        if (time >= 1 || time >= times[last]) return values[last];
+
+        int segment = Arrays.binarySearch(times, time);
+        if (segment >= 0) {
+            return values[segment];
         }
+        segment = -segment - 2;
 
-        return keyframes.get(keyframes.size() - 1).getValue();
+        double segmentTime = (time - times[segment]) / (times[segment + 1] - times[segment]);
+        if (coefficients == null) {
+            if (easings[segment] != null) {
+                segmentTime = easings[segment].ease(segmentTime);
+            }
+            return values[segment] + (values[segment + 1] - values[segment]) * segmentTime;
+        }
+        return KeyFrameSplines.evaluate(coefficients, segment * 4, segmentTime);
     }
 
     public List<KeyFrame> getKeyframes() {
         return new ArrayList<>(keyframes);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Gets the interpolation between keyframes.
+     *
+     * @return the interpolation mode
+     */
+    public @NotNull KeyFrameInterpolation getInterpolation() {
+        return interpolation;
+    }
+}
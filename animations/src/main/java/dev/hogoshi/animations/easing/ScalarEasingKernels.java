@@ -0,0 +1,83 @@
+package dev.hogoshi.animations.easing;
+
+/**
+ * Plain Java implementation of the batch easing kernels.
+ * Used on Java 8, whenever the vector API is not available at runtime, and for the tails of vectorized loops.
+ * Every kernel processes the elements from {@code offset} (inclusive) to {@code length} (exclusive).
+ */
+final class ScalarEasingKernels {
+    private ScalarEasingKernels() {
+    }
+
+    static void lerp(double[] from, double[] to, double[] progress, double[] out, int offset, int length) {
+        for (int i = offset; i < length; i++) {
+            out[i] = from[i] + (to[i] - from[i]) * progress[i];
+        }
+    }
+
+    static void powIn(double[] values, double[] out, int offset, int length, int power) {
+        for (int i = offset; i < length; i++) {
+            out[i] = pow(values[i], power);
+        }
+    }
+
+    static void powOut(double[] values, double[] out, int offset, int length, int power) {
+        for (int i = offset; i < length; i++) {
+            out[i] = 1.0D - pow(1.0D - values[i], power);
+        }
+    }
+
+    static void powBoth(double[] values, double[] out, int offset, int length, int power) {
+        for (int i = offset; i < length; i++) {
+            double value = values[i];
+            if (value < 0.5D) {
+                out[i] = pow(2.0D * value, power) / 2.0D;
+            } else {
+                out[i] = 1.0D - pow(2.0D * (1.0D - value), power) / 2.0D;
+            }
+        }
+    }
+
+    static void cubicBezier(double p1, double p2, double[] values, double[] out, int offset, int length) {
+        double c1 = 3.0D * p1;
+        double c2 = 3.0D * p2 - 6.0D * p1;
+        double c3 = 1.0D + 3.0D * p1 - 3.0D * p2;
+        for (int i = offset; i < length; i++) {
+            double t = values[i];
+            out[i] = ((c3 * t + c2) * t + c1) * t;
+        }
+    }
+
+    static void cubicBezierEase(double p1x, double p1y, double p2x, double p2y, double[] values, double[] out, int offset, int length) {
+        double x1 = 3.0D * p1x;
+        double x2 = 3.0D * p2x - 6.0D * p1x;
+        double x3 = 1.0D + 3.0D * p1x - 3.0D * p2x;
+        double y1 = 3.0D * p1y;
+        double y2 = 3.0D * p2y - 6.0D * p1y;
+        double y3 = 1.0D + 3.0D * p1y - 3.0D * p2y;
+        for (int i = offset; i < length; i++) {
+            double x = values[i];
+            double start = 0;
+            double end = 1;
+            for (int iteration = 0; iteration < EasingKernels.BISECTION_STEPS; iteration++) {
+                double mid = (start + end) * 0.5D;
+                if (((x3 * mid + x2) * mid + x1) * mid < x) {
+                    start = mid;
+                } else {
+                    end = mid;
+                }
+            }
+            double t = (start + end) * 0.5D;
+            double y = ((y3 * t + y2) * t + y1) * t;
+            out[i] = x <= 0 ? 0 : x >= 1 ? 1 : y;
+        }
+    }
+
+    private static double pow(double value, int power) {
+        double result = 1.0D;
+        for (int i = 0; i < power; i++) {
+            result *= value;
+        }
+        return result;
+    }
+}
@@ -5,7 +5,8 @@ import lombok.Getter;
 
 /**
  * Abstract base class for Bezier curve-based easing functions.
- * Provides common functionality for calculating Bezier curve points and coefficients.
+ * Provides common functionality for calculating Bezier curve points and coefficients,
+ * including the conversion to power basis used to evaluate curves with Horner's method.
  */
 @Getter
 public abstract class AbstractBezier implements Easing {
@@ -25,6 +26,9 @@ public abstract class AbstractBezier implements Easing {
 
     /**
      * Calculates a point on the Bezier curve at the given parameter value.
+     * Evaluates the Bernstein form with a Horner-like scheme that updates the binomial coefficient and the power of t
+     * incrementally, so no powers or binomial coefficients are recomputed per term. Curves evaluated repeatedly
+     * should convert their control points with {@link #powerBasis(double[])} once instead.
      *
      * @param t      parameter value (0.0 to 1.0)
      * @param points control points of the curve
@@ -32,9 +36,69 @@ public abstract class AbstractBezier implements Easing {
      */
     protected double calculateBezierPoint(double t, double[] points) {
         int n = points.length - 1;
+        if (n == 0) {
+            return points[0];
+        }
+        double s = 1 - t;
+        double power = 1;
+        double binomial = 1;
+        double result = points[0] * s;
+        for (int i = 1; i < n; i++) {
+            power *= t;
+            binomial = binomial * (n - i + 1) / i;
+            result = (result + power * binomial * points[i]) * s;
+        }
+        return result + power * t * points[n];
+    }
+
+    /**
+     * Converts the control points of a Bezier curve to the coefficients of the same curve in power basis,
+     * {@code c[0] + c[1] * t + ... + c[n] * t^n}, which {@link #polynomial(double[], double)} evaluates with
+     * one multiplication and one addition per degree.
+     *
+     * @param points control points of the curve
+     * @return the power basis coefficients, lowest degree first
+     */
+    protected static double[] powerBasis(double[] points) {
+        int n = points.length - 1;
+        double[] coefficients = new double[n + 1];
+        for (int j = 0; j <= n; j++) {
+            double sum = 0;
+            for (int i = 0; i <= j; i++) {
+                double term = binomialCoefficient(j, i) * points[i];
+                sum += (j - i) % 2 == 0 ? term : -term;
+            }
+            coefficients[j] = binomialCoefficient(n, j) * sum;
+        }
+        return coefficients;
+    }
+
+    /**
+     * Evaluates a polynomial in power basis using Horner's method.
+     *
+     * @param coefficients coefficients, lowest degree first
+     * @param t            parameter value
+     * @return value of the polynomial
+     */
+    protected static double polynomial(double[] coefficients, double t) {
+        double result = 0;
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            result = result * t + coefficients[i];
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the first derivative of a polynomial in power basis using Horner's method.
+     *
+     * @param coefficients coefficients, lowest degree first
+     * @param t            parameter value
+     * @return value of the derivative
+     */
+    protected static double polynomialDerivative(double[] coefficients, double t) {
         double result = 0;
-        for (int i = 0; i <= n; i++) {
-            result += binomialCoefficient(n, i) * Math.pow(1 - t, n - i) * Math.pow(t, i) * points[i];
+        for (int i = coefficients.length - 1; i >= 1; i--) {
+            result = result * t + i * coefficients[i];
         }
         return result;
     }
@@ -46,7 +110,7 @@ public abstract class AbstractBezier implements Easing {
      * @param k number of items to choose
      * @return binomial coefficient
      */
-    private double binomialCoefficient(int n, int k) {
+    private static double binomialCoefficient(int n, int k) {
         if (k < 0 || k > n) return 0;
         if (k == 0 || k == n) return 1;
         k = Math.min(k, n - k);
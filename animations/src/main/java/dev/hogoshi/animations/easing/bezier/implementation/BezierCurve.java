@@ -0,0 +1,141 @@
+package dev.hogoshi.animations.easing.bezier.implementation;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.easing.bezier.AbstractBezier;
+import dev.hogoshi.animations.utility.Validator;
+
+/**
+ * Implementation of a Bezier curve easing function of any degree.
+ * The curve starts at (0,0) and ends at (1,1), with any number of control points in between,
+ * so n control points give a curve of degree n + 1.
+ * <p>
+ * The control points are converted to power basis once at construction. Easing solves x(t) = x with Newton's method,
+ * falling back to bisection where the curve is too flat, and evaluates y(t) with Horner's method,
+ * so a curve of degree n costs O(n) per iteration without any powers or binomial coefficients.
+ */
+public class BezierCurve extends AbstractBezier {
+    /**
+     * Maximum number of Newton iterations before falling back to bisection.
+     */
+    private static final int NEWTON_ITERATIONS = 8;
+
+    /**
+     * Number of bisection steps, enough to reach double precision on [0,1].
+     */
+    private static final int BISECTION_STEPS = 52;
+
+    /**
+     * Accepted error of the solved x-coordinate.
+     */
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Slopes flatter than this make Newton's method fall back to bisection.
+     */
+    private static final double MIN_SLOPE = 1e-6;
+
+    /**
+     * Power basis coefficients of x(t), lowest degree first.
+     */
+    private final double[] xCoefficients;
+
+    /**
+     * Power basis coefficients of y(t), lowest degree first.
+     */
+    private final double[] yCoefficients;
+
+    /**
+     * Creates a new Bezier curve easing function with the given control points between (0,0) and (1,1).
+     *
+     * @param xControls x-coordinates of the control points
+     * @param yControls y-coordinates of the control points
+     * @throws IllegalArgumentException if the arrays are null or differ in length
+     */
+    public BezierCurve(@NotNull double[] xControls, @NotNull double[] yControls) {
+        super(withEnds(xControls));
+        Validator.requireNonNull(yControls, "Control points cannot be null");
+        if (xControls.length != yControls.length) {
+            throw new IllegalArgumentException("X and y control points must have the same count");
+        }
+        this.xCoefficients = powerBasis(points);
+        this.yCoefficients = powerBasis(withEnds(yControls));
+    }
+
+    /**
+     * Gets the degree of the curve.
+     *
+     * @return the degree, one more than the number of control points
+     */
+    public int degree() {
+        return xCoefficients.length - 1;
+    }
+
+    /**
+     * Calculates the y-coordinate of a point on the Bezier curve at the given x-coordinate.
+     *
+     * @param x the x-coordinate (between 0 and 1)
+     * @return the y-coordinate of the point on the curve
+     */
+    @Override
+    public double ease(double x) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+
+        return polynomial(yCoefficients, solve(x));
+    }
+
+    /**
+     * Finds the curve parameter t whose x-coordinate is the given value.
+     *
+     * @param x the target x-coordinate
+     * @return the matching t value
+     */
+    private double solve(double x) {
+        double t = x;
+        for (int i = 0; i < NEWTON_ITERATIONS; i++) {
+            double error = polynomial(xCoefficients, t) - x;
+            if (Math.abs(error) < EPSILON) {
+                return t;
+            }
+            double slope = polynomialDerivative(xCoefficients, t);
+            if (Math.abs(slope) < MIN_SLOPE) {
+                break;
+            }
+            t -= error / slope;
+            if (t < 0 || t > 1) {
+                break;
+            }
+        }
+
+        double start = 0;
+        double end = 1;
+        for (int i = 0; i < BISECTION_STEPS; i++) {
+            t = (start + end) * 0.5;
+            double currentX = polynomial(xCoefficients, t);
+            if (Math.abs(currentX - x) < EPSILON) {
+                return t;
+            }
+            if (currentX < x) {
+                start = t;
+            } else {
+                end = t;
+            }
+        }
+        return (start + end) * 0.5;
+    }
+
+    /**
+     * Adds the fixed end points (0 and 1) around the given control coordinates.
+     *
+     * @param controls control coordinates
+     * @return all point coordinates of the curve
+     */
+    private static double[] withEnds(double[] controls) {
+        Validator.requireNonNull(controls, "Control points cannot be null");
+        double[] points = new double[controls.length + 2];
+        System.arraycopy(controls, 0, points, 1, controls.length);
+        points[points.length - 1] = 1.0;
+        return points;
+    }
+}
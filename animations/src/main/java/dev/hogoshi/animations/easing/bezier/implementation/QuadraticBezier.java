@@ -0,0 +1,18 @@
+package dev.hogoshi.animations.easing.bezier.implementation;
+
+/**
+ * Implementation of a quadratic Bezier curve easing function.
+ * A quadratic Bezier curve is defined by three control points: P0, P1, and P2.
+ * P0 and P2 are fixed at (0,0) and (1,1) respectively, while P1 is specified by the constructor parameters.
+ */
+public class QuadraticBezier extends BezierCurve {
+    /**
+     * Creates a new quadratic Bezier curve easing function.
+     *
+     * @param p1x x-coordinate of the control point
+     * @param p1y y-coordinate of the control point
+     */
+    public QuadraticBezier(double p1x, double p1y) {
+        super(new double[]{p1x}, new double[]{p1y});
+    }
+}
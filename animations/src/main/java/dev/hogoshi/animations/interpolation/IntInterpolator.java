@@ -0,0 +1,17 @@
+package dev.hogoshi.animations.interpolation;
+
+/**
+ * Functional interface interpolating between two int values, e.g. pixel positions or packed colors.
+ */
+@FunctionalInterface
+public interface IntInterpolator {
+    /**
+     * Computes the value at the given fraction between two values.
+     *
+     * @param from     start value
+     * @param to       end value
+     * @param fraction progress from 0 to 1, possibly outside for overshooting easings
+     * @return the interpolated value
+     */
+    int interpolate(int from, int to, double fraction);
+}
@@ -0,0 +1,20 @@
+package dev.hogoshi.animations.interpolation;
+
+/**
+ * Functional interface interpolating between two values of any type, e.g. rectangles or points.
+ * Primitive values should use {@link IntInterpolator} or {@link LongInterpolator}, which don't box.
+ *
+ * @param <T> type of the interpolated values
+ */
+@FunctionalInterface
+public interface Interpolator<T> {
+    /**
+     * Computes the value at the given fraction between two values.
+     *
+     * @param from     start value
+     * @param to       end value
+     * @param fraction progress from 0 to 1, possibly outside for overshooting easings
+     * @return the interpolated value
+     */
+    T interpolate(T from, T to, double fraction);
+}
@@ -0,0 +1,112 @@
+package dev.hogoshi.animations.interpolation;
+
+import java.util.function.LongConsumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.core.Animation;
+import dev.hogoshi.animations.model.AnimationConfig;
+import dev.hogoshi.animations.utility.Validator;
+import lombok.Getter;
+
+/**
+ * Animation between two long values, e.g. timestamps or counters.
+ * The animated value is the eased progress from 0 to 1, which the interpolator maps to long values
+ * reported through a primitive callback, so updates neither box nor allocate.
+ */
+@Getter
+public class LongAnimation extends Animation {
+    /**
+     * Start value.
+     */
+    private final long from;
+
+    /**
+     * End value.
+     */
+    private final long to;
+
+    /**
+     * Interpolator mapping the progress to values.
+     */
+    private final LongInterpolator interpolator;
+
+    /**
+     * Callback receiving the interpolated value on each update.
+     */
+    private LongConsumer onLong;
+
+    /**
+     * Creates an animation between two long values interpolated linearly.
+     *
+     * @param config animation configuration
+     * @param from   start value
+     * @param to     end value
+     * @throws IllegalArgumentException if config is null
+     */
+    public LongAnimation(@NotNull AnimationConfig config, long from, long to) {
+        this(config, from, to, Interpolators.LONG);
+    }
+
+    /**
+     * Creates an animation between two long values.
+     *
+     * @param config       animation configuration
+     * @param from         start value
+     * @param to           end value
+     * @param interpolator interpolator mapping the progress to values
+     * @throws IllegalArgumentException if config or interpolator is null
+     */
+    public LongAnimation(@NotNull AnimationConfig config, long from, long to, @NotNull LongInterpolator interpolator) {
+        super(config, 0, 1);
+        Validator.requireNonNull(interpolator, "Interpolator cannot be null");
+        this.from = from;
+        this.to = to;
+        this.interpolator = interpolator;
+    }
+
+    /**
+     * Sets the callback function to be called with the interpolated value on each animation update.
+     *
+     * @param onLong callback function that receives the current value
+     * @return this animation instance for method chaining
+     */
+    public @NotNull LongAnimation onLong(@Nullable LongConsumer onLong) {
+        this.onLong = onLong;
+        return this;
+    }
+
+    /**
+     * Computes the current interpolated value. In tickless mode this reads the clock.
+     *
+     * @return the current value
+     */
+    public long currentLong() {
+        return interpolator.interpolate(from, to, currentValue());
+    }
+
+    /**
+     * Computes the interpolated value at the given clock timestamp without changing the animation state.
+     *
+     * @param nanos clock timestamp in nanoseconds
+     * @return the value at that time
+     * @see #valueAt(long)
+     */
+    public long longAt(long nanos) {
+        return interpolator.interpolate(from, to, valueAt(nanos));
+    }
+
+    /**
+     * Invokes the value callbacks with the progress, then the long callback with the interpolated value.
+     *
+     * @param value the eased progress
+     */
+    @Override
+    protected void deliverUpdate(double value) {
+        super.deliverUpdate(value);
+        if (onLong != null) {
+            onLong.accept(interpolator.interpolate(from, to, value));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.hogoshi.animations.interpolation;
+
+/**
+ * Functional interface interpolating between two long values, e.g. timestamps or counters.
+ */
+@FunctionalInterface
+public interface LongInterpolator {
+    /**
+     * Computes the value at the given fraction between two values.
+     *
+     * @param from     start value
+     * @param to       end value
+     * @param fraction progress from 0 to 1, possibly outside for overshooting easings
+     * @return the interpolated value
+     */
+    long interpolate(long from, long to, double fraction);
+}
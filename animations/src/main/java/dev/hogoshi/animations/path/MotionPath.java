@@ -0,0 +1,362 @@
+package dev.hogoshi.animations.path;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Immutable 2D path made of line and cubic Bezier segments, sampled by distance travelled along it.
+ * <p>
+ * An arc-length table is computed once when the path is built: every cubic segment is split into
+ * {@value #CUBIC_SAMPLES} intervals whose lengths are integrated with Gauss-Legendre quadrature,
+ * while lines need a single exact interval. Sampling binary searches the cumulative lengths, interpolates the
+ * curve parameter with a cubic Hermite curve matching the speed at both ends of the interval, and evaluates the
+ * segment's power basis polynomial with Horner's method, so it is O(log n) without any numerical integration.
+ * Paths hold no per-animation state and can be shared by any number of animations and threads.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class MotionPath {
+    /**
+     * Number of arc-length table intervals per cubic segment.
+     */
+    private static final int CUBIC_SAMPLES = 16;
+
+    /**
+     * Gauss-Legendre abscissae on [-1,1] for five points.
+     */
+    private static final double[] GAUSS_NODES = {
+            0.0, -0.5384693101056831, 0.5384693101056831, -0.9061798459386640, 0.9061798459386640
+    };
+
+    /**
+     * Gauss-Legendre weights matching {@link #GAUSS_NODES}.
+     */
+    private static final double[] GAUSS_WEIGHTS = {
+            0.5688888888888889, 0.4786286704993665, 0.4786286704993665, 0.2369268850561891, 0.2369268850561891
+    };
+
+    /**
+     * Number of coefficients stored per segment: four for x(t), then four for y(t), highest degree first.
+     */
+    private static final int STRIDE = 8;
+
+    /**
+     * Total length of the path.
+     */
+    private final double length;
+
+    /**
+     * Number of segments.
+     */
+    private final int segmentCount;
+
+    /**
+     * Power basis coefficients of all segments, {@value #STRIDE} per segment.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] coefficients;
+
+    /**
+     * Cumulative length at the end of each arc-length table interval, starting with 0.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] tableLengths;
+
+    /**
+     * Path parameter at the end of each arc-length table interval: segment index plus the local parameter.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] tableParameters;
+
+    /**
+     * Rate of change of the path parameter per distance at the start and at the end of each table interval,
+     * used to interpolate the parameter with a cubic Hermite curve instead of a straight line.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] tableSlopes;
+
+    private MotionPath(double[] coefficients, int segmentCount) {
+        this.coefficients = coefficients;
+        this.segmentCount = segmentCount;
+        int tableSize = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            tableSize += isLine(segment) ? 1 : CUBIC_SAMPLES;
+        }
+        this.tableLengths = new double[tableSize + 1];
+        this.tableParameters = new double[tableSize + 1];
+        this.tableSlopes = new double[tableSize * 2];
+
+        int entry = 0;
+        double total = 0;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            int samples = isLine(segment) ? 1 : CUBIC_SAMPLES;
+            for (int i = 0; i < samples; i++) {
+                double from = (double) i / samples;
+                double to = (double) (i + 1) / samples;
+                total += intervalLength(segment, from, to);
+                tableSlopes[entry * 2] = inverseSpeed(segment, from);
+                tableSlopes[entry * 2 + 1] = inverseSpeed(segment, to);
+                entry++;
+                tableLengths[entry] = total;
+                tableParameters[entry] = segment + to;
+            }
+        }
+        this.length = total;
+    }
+
+    /**
+     * Starts building a path at the given point.
+     *
+     * @param x x-coordinate of the start point
+     * @param y y-coordinate of the start point
+     * @return a builder appending segments from that point
+     */
+    public static @NotNull Builder startAt(double x, double y) {
+        return new Builder(x, y);
+    }
+
+    /**
+     * Computes the point at the given fraction of the path's length.
+     *
+     * @param fraction travelled distance relative to the path length, clamped to [0,1]
+     * @param out      array receiving the x-coordinate at index 0 and the y-coordinate at index 1
+     */
+    public void positionAt(double fraction, @NotNull double[] out) {
+        double parameter = parameterAt(fraction);
+        int segment = segmentOf(parameter);
+        double t = parameter - segment;
+        int base = segment * STRIDE;
+        out[0] = cubic(base, t);
+        out[1] = cubic(base + 4, t);
+    }
+
+    /**
+     * Computes the direction of travel at the given fraction of the path's length, e.g. to rotate a sprite along it.
+     *
+     * @param fraction travelled distance relative to the path length, clamped to [0,1]
+     * @return the angle of the tangent in radians, as returned by {@link Math#atan2(double, double)}
+     */
+    public double angleAt(double fraction) {
+        double parameter = parameterAt(fraction);
+        int segment = segmentOf(parameter);
+        double t = parameter - segment;
+        int base = segment * STRIDE;
+        return Math.atan2(derivative(base + 4, t), derivative(base, t));
+    }
+
+    /**
+     * Maps a fraction of the path's length to the path parameter using the arc-length table.
+     *
+     * @param fraction travelled distance relative to the path length
+     * @return the path parameter, segment index plus the local parameter
+     */
+    private double parameterAt(double fraction) {
+        if (!(fraction > 0) || length == 0) {
+            return 0;
+        }
+        if (fraction >= 1) {
+            return segmentCount;
+        }
+
+        double distance = fraction * length;
+        int index = Arrays.binarySearch(tableLengths, distance);
+        if (index >= 0) {
+            return tableParameters[index];
+        }
+        int upper = -index - 1;
+        int lower = upper - 1;
+        double span = tableLengths[upper] - tableLengths[lower];
+        if (!(span > 0)) {
+            return tableParameters[lower];
+        }
+
+        double from = tableParameters[lower];
+        double range = tableParameters[upper] - from;
+        double limit = 3 * range;
+        double startSlope = Math.min(tableSlopes[lower * 2] * span, limit);
+        double endSlope = Math.min(tableSlopes[lower * 2 + 1] * span, limit);
+        double u = (distance - tableLengths[lower]) / span;
+        double u2 = u * u;
+        double u3 = u2 * u;
+        double parameter = from + range * (3 * u2 - 2 * u3)
+                + startSlope * (u3 - 2 * u2 + u) + endSlope * (u3 - u2);
+        return Math.max(from, Math.min(from + range, parameter));
+    }
+
+    /**
+     * Finds the segment a path parameter falls into.
+     *
+     * @param parameter path parameter between 0 and the segment count
+     * @return the segment index
+     */
+    private int segmentOf(double parameter) {
+        return Math.min((int) parameter, segmentCount - 1);
+    }
+
+    /**
+     * Checks whether a segment is a straight line, i.e. has no quadratic or cubic terms.
+     *
+     * @param segment segment index
+     * @return true for line segments
+     */
+    private boolean isLine(int segment) {
+        int base = segment * STRIDE;
+        return coefficients[base] == 0 && coefficients[base + 1] == 0
+                && coefficients[base + 4] == 0 && coefficients[base + 5] == 0;
+    }
+
+    /**
+     * Computes how fast the parameter of a segment changes per distance travelled.
+     *
+     * @param segment segment index
+     * @param t       local segment parameter
+     * @return the inverse of the speed, or positive infinity where the curve stops
+     */
+    private double inverseSpeed(int segment, double t) {
+        int base = segment * STRIDE;
+        return 1 / Math.hypot(derivative(base, t), derivative(base + 4, t));
+    }
+
+    /**
+     * Integrates the speed of a segment over an interval of its parameter with five-point Gauss-Legendre quadrature.
+     *
+     * @param segment segment index
+     * @param from    start of the interval
+     * @param to      end of the interval
+     * @return the arc length of the interval
+     */
+    private double intervalLength(int segment, double from, double to) {
+        int base = segment * STRIDE;
+        double half = (to - from) * 0.5;
+        double middle = (to + from) * 0.5;
+        double sum = 0;
+        for (int i = 0; i < GAUSS_NODES.length; i++) {
+            double t = middle + half * GAUSS_NODES[i];
+            sum += GAUSS_WEIGHTS[i] * Math.hypot(derivative(base, t), derivative(base + 4, t));
+        }
+        return sum * half;
+    }
+
+    /**
+     * Evaluates one coordinate of a segment with Horner's method.
+     *
+     * @param offset offset of the coordinate's coefficients
+     * @param t      local segment parameter
+     * @return the coordinate
+     */
+    private double cubic(int offset, double t) {
+        return ((coefficients[offset] * t + coefficients[offset + 1]) * t + coefficients[offset + 2]) * t
+                + coefficients[offset + 3];
+    }
+
+    /**
+     * Evaluates the derivative of one coordinate of a segment with Horner's method.
+     *
+     * @param offset offset of the coordinate's coefficients
+     * @param t      local segment parameter
+     * @return the derivative of the coordinate
+     */
+    private double derivative(int offset, double t) {
+        return (3 * coefficients[offset] * t + 2 * coefficients[offset + 1]) * t + coefficients[offset + 2];
+    }
+
+    /**
+     * Builder appending segments to a path, each starting where the previous one ended.
+     */
+    public static final class Builder {
+        private double[] coefficients = new double[STRIDE * 4];
+        private int segmentCount;
+        private double x;
+        private double y;
+
+        private Builder(double x, double y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        /**
+         * Appends a straight line to the given point.
+         *
+         * @param x x-coordinate of the end point
+         * @param y y-coordinate of the end point
+         * @return this builder for method chaining
+         */
+        public @NotNull Builder lineTo(double x, double y) {
+            int base = append();
+            coefficients[base + 2] = x - this.x;
+            coefficients[base + 3] = this.x;
+            coefficients[base + 6] = y - this.y;
+            coefficients[base + 7] = this.y;
+            this.x = x;
+            this.y = y;
+            return this;
+        }
+
+        /**
+         * Appends a quadratic Bezier curve, stored as the equivalent cubic.
+         *
+         * @param cx control point x-coordinate
+         * @param cy control point y-coordinate
+         * @param x  x-coordinate of the end point
+         * @param y  y-coordinate of the end point
+         * @return this builder for method chaining
+         */
+        public @NotNull Builder quadTo(double cx, double cy, double x, double y) {
+            return cubicTo(this.x + (cx - this.x) * 2 / 3, this.y + (cy - this.y) * 2 / 3,
+                    x + (cx - x) * 2 / 3, y + (cy - y) * 2 / 3, x, y);
+        }
+
+        /**
+         * Appends a cubic Bezier curve.
+         *
+         * @param c1x first control point x-coordinate
+         * @param c1y first control point y-coordinate
+         * @param c2x second control point x-coordinate
+         * @param c2y second control point y-coordinate
+         * @param x   x-coordinate of the end point
+         * @param y   y-coordinate of the end point
+         * @return this builder for method chaining
+         */
+        public @NotNull Builder cubicTo(double c1x, double c1y, double c2x, double c2y, double x, double y) {
+            int base = append();
+            powerBasis(base, this.x, c1x, c2x, x);
+            powerBasis(base + 4, this.y, c1y, c2y, y);
+            this.x = x;
+            this.y = y;
+            return this;
+        }
+
+        /**
+         * Builds the path and its arc-length table.
+         *
+         * @return the immutable path
+         * @throws IllegalArgumentException if no segment was added
+         */
+        public @NotNull MotionPath build() {
+            Validator.requirePositive(segmentCount, "Path must have at least one segment");
+            return new MotionPath(Arrays.copyOf(coefficients, segmentCount * STRIDE), segmentCount);
+        }
+
+        private int append() {
+            int base = segmentCount * STRIDE;
+            if (base == coefficients.length) {
+                coefficients = Arrays.copyOf(coefficients, base * 2);
+            }
+            segmentCount++;
+            return base;
+        }
+
+        private void powerBasis(int offset, double p0, double p1, double p2, double p3) {
+            coefficients[offset] = -p0 + 3 * p1 - 3 * p2 + p3;
+            coefficients[offset + 1] = 3 * p0 - 6 * p1 + 3 * p2;
+            coefficients[offset + 2] = 3 * (p1 - p0);
+            coefficients[offset + 3] = p0;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package dev.hogoshi.animations.path;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.hogoshi.animations.core.Animation;
+import dev.hogoshi.animations.model.AnimationConfig;
+import dev.hogoshi.animations.utility.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Animation moving a point along a {@link MotionPath}.
+ * The animated value is the travelled fraction of the path's length, so a linear easing moves at constant speed
+ * and any other easing eases the travelled distance. Positions are reported through {@link #onPosition(PositionConsumer)},
+ * while value callbacks still receive the fraction.
+ */
+@Getter
+public class PathAnimation extends Animation {
+    /**
+     * Path followed by the animation, possibly shared with other animations.
+     */
+    private final MotionPath path;
+
+    /**
+     * Callback receiving the position on each update.
+     */
+    private PositionConsumer onPosition;
+
+    /**
+     * Reused buffer for the position reported to the callback.
+     */
+    @Getter(AccessLevel.NONE)
+    private final double[] position = new double[2];
+
+    /**
+     * Creates an animation travelling the whole path.
+     *
+     * @param config animation configuration
+     * @param path   path to follow
+     * @throws IllegalArgumentException if config or path is null
+     */
+    public PathAnimation(@NotNull AnimationConfig config, @NotNull MotionPath path) {
+        this(config, path, 0, 1);
+    }
+
+    /**
+     * Creates an animation travelling part of a path, possibly backwards.
+     *
+     * @param config       animation configuration
+     * @param path         path to follow
+     * @param fromFraction fraction of the path's length to start at
+     * @param toFraction   fraction of the path's length to end at
+     * @throws IllegalArgumentException if config or path is null, or a fraction is outside [0,1]
+     */
+    public PathAnimation(@NotNull AnimationConfig config, @NotNull MotionPath path, double fromFraction, double toFraction) {
+        super(config, fromFraction, toFraction);
+        Validator.requireNonNull(path, "Path cannot be null");
+        Validator.requireInRange(fromFraction, 0, 1, "Start fraction must be between 0 and 1");
+        Validator.requireInRange(toFraction, 0, 1, "End fraction must be between 0 and 1");
+        this.path = path;
+    }
+
+    /**
+     * Sets the callback function to be called with the position on each animation update.
+     *
+     * @param onPosition callback function that receives the current coordinates
+     * @return this animation instance for method chaining
+     */
+    public @NotNull PathAnimation onPosition(@Nullable PositionConsumer onPosition) {
+        this.onPosition = onPosition;
+        return this;
+    }
+
+    /**
+     * Computes the current position. In tickless mode this reads the clock, otherwise uses the last updated value.
+     *
+     * @param out array receiving the x-coordinate at index 0 and the y-coordinate at index 1
+     */
+    public void position(@NotNull double[] out) {
+        path.positionAt(currentValue(), out);
+    }
+
+    /**
+     * Computes the position at the given clock timestamp without changing the animation state.
+     *
+     * @param nanos clock timestamp in nanoseconds
+     * @param out   array receiving the x-coordinate at index 0 and the y-coordinate at index 1
+     * @see #valueAt(long)
+     */
+    public void positionAt(long nanos, @NotNull double[] out) {
+        path.positionAt(valueAt(nanos), out);
+    }
+
+    /**
+     * Computes the current direction of travel.
+     *
+     * @return the angle of the path's tangent in radians
+     */
+    public double angle() {
+        return path.angleAt(currentValue());
+    }
+
+    /**
+     * Invokes the value callbacks with the travelled fraction, then the position callback with the matching point.
+     *
+     * @param value the travelled fraction of the path's length
+     */
+    @Override
+    protected void deliverUpdate(double value) {
+        super.deliverUpdate(value);
+        if (onPosition != null) {
+            path.positionAt(value, position);
+            onPosition.accept(position[0], position[1]);
+        }
+    }
+}
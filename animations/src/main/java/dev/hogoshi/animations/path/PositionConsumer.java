@@ -0,0 +1,15 @@
+package dev.hogoshi.animations.path;
+
+/**
+ * Receives positions along a {@link MotionPath} as primitive coordinates, without allocating a point per update.
+ */
+@FunctionalInterface
+public interface PositionConsumer {
+    /**
+     * Called with the current position.
+     *
+     * @param x x-coordinate
+     * @param y y-coordinate
+     */
+    void accept(double x, double y);
+}
@@ -0,0 +1,98 @@
+package dev.hogoshi.animations.stream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wire format shared by {@link FrameStreamWriter} and {@link FrameStreamReader}.
+ * <p>
+ * A stream starts with a header of the {@link #MAGIC} int, the {@link #VERSION} byte and the quantization step
+ * as a double. It is followed by frames, each an int payload length and a payload holding the varint number
+ * of changes, then per change the zigzag varint difference to the previous id of the frame and the zigzag varint
+ * difference of the quantized value to the last value sent for that id. Ids start from a previous id of 0,
+ * and values start from 0 for ids that were never sent.
+ * <p>
+ * Buffer position changes go through {@link java.nio.Buffer}, since the covariant {@code ByteBuffer} overrides
+ * of Java 9 and later don't exist on Java 8.
+ */
+final class FrameStream {
+    /**
+     * Marks the start of a frame stream.
+     */
+    static final int MAGIC = 0x414E4653;
+
+    /**
+     * Version of the wire format.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Size of the stream header in bytes.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + 1 + Double.BYTES;
+
+    /**
+     * Maximum encoded size of the change count of a frame.
+     */
+    static final int MAX_COUNT_SIZE = 5;
+
+    /**
+     * Maximum encoded size of one change: two varints of at most ten bytes each.
+     */
+    static final int MAX_CHANGE_SIZE = 20;
+
+    private FrameStream() {
+    }
+
+    /**
+     * Writes an unsigned variable length integer, seven bits per byte.
+     *
+     * @param buffer buffer to write to
+     * @param value  value to write, treated as unsigned
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned variable length integer.
+     *
+     * @param buffer buffer to read from
+     * @return the value
+     * @throws IllegalStateException if the varint is longer than ten bytes
+     */
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in frame stream");
+    }
+
+    /**
+     * Maps signed values to unsigned ones so small magnitudes of either sign encode to few bytes.
+     *
+     * @param value signed value
+     * @return zigzag encoded value
+     */
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Reverses {@link #zigzag(long)}.
+     *
+     * @param value zigzag encoded value
+     * @return signed value
+     */
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,153 @@
+package dev.hogoshi.animations.stream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Decodes the frames written by a {@link FrameStreamWriter}, keeping the latest value of every id.
+ * Frames are read into one reused direct buffer, so steady state decoding doesn't allocate.
+ * The reader is not thread safe, and the channel should be blocking.
+ */
+@Getter
+@Accessors(fluent = true)
+public class FrameStreamReader {
+    /**
+     * Channel the frames are read from.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Quantization step of the stream, known once the stream header has been read.
+     */
+    private double quantization = Double.NaN;
+
+    /**
+     * Number of frames read.
+     */
+    private long frames;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private long[] values = new long[64];
+
+    /**
+     * Creates a reader.
+     *
+     * @param channel channel the frames are read from
+     * @throws IllegalArgumentException if channel is null
+     */
+    public FrameStreamReader(@NotNull ReadableByteChannel channel) {
+        Validator.requireNonNull(channel, "Channel cannot be null");
+        this.channel = channel;
+    }
+
+    /**
+     * Reads the next frame, blocking until it is complete, and reports its changes.
+     *
+     * @param listener receives every value changed by the frame, or null to only update {@link #value(int)}
+     * @return false if the stream ended before the frame
+     * @throws IOException if reading fails, the stream ends inside a frame or the data is not a frame stream
+     */
+    public boolean readFrame(FrameListener listener) throws IOException {
+        if (Double.isNaN(quantization)) {
+            if (!fill(FrameStream.HEADER_SIZE)) {
+                return false;
+            }
+            if (buffer.getInt() != FrameStream.MAGIC) {
+                throw new IOException("Not a frame stream");
+            }
+            byte version = buffer.get();
+            if (version != FrameStream.VERSION) {
+                throw new IOException("Unsupported frame stream version " + version);
+            }
+            quantization = buffer.getDouble();
+        }
+
+        if (!fill(Integer.BYTES)) {
+            return false;
+        }
+        int length = buffer.getInt();
+        if (length <= 0) {
+            throw new IOException("Malformed frame length " + length);
+        }
+        if (!fill(length)) {
+            throw new EOFException("Frame stream ended inside a frame");
+        }
+
+        long count = FrameStream.getVarLong(buffer);
+        int id = 0;
+        for (long i = 0; i < count; i++) {
+            id += (int) FrameStream.unzigzag(FrameStream.getVarLong(buffer));
+            if (id < 0) {
+                throw new IOException("Malformed id in frame stream");
+            }
+            if (id >= values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, id + 1));
+            }
+            long quantized = values[id] + FrameStream.unzigzag(FrameStream.getVarLong(buffer));
+            values[id] = quantized;
+            if (listener != null) {
+                listener.onValue(id, quantized * quantization);
+            }
+        }
+        frames++;
+        return true;
+    }
+
+    /**
+     * Gets the latest value received for an id.
+     *
+     * @param id value id
+     * @return the value, or 0 if none was received
+     */
+    public double value(int id) {
+        return id < values.length && !Double.isNaN(quantization) ? values[id] * quantization : 0;
+    }
+
+    /**
+     * Reads exactly the given number of bytes into the buffer and prepares them for reading.
+     *
+     * @param size number of bytes
+     * @return false if the stream ended before the first byte
+     * @throws IOException if reading fails or the stream ends after the first byte
+     */
+    private boolean fill(int size) throws IOException {
+        if (size > buffer.capacity()) {
+            buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2));
+        }
+        ((Buffer) buffer).clear().limit(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Frame stream ended inside a frame");
+            }
+        }
+        ((Buffer) buffer).flip();
+        return true;
+    }
+
+    /**
+     * Receives the values decoded from a frame.
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+        /**
+         * Called for every value changed by a frame.
+         *
+         * @param id    value id
+         * @param value the new value
+         */
+        void onValue(int id, double value);
+    }
+}
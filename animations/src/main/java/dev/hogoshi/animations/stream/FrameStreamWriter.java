@@ -0,0 +1,199 @@
+package dev.hogoshi.animations.stream;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.hogoshi.animations.utility.Validator;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Encodes animation values into a compact binary stream for remote renderers such as LED controllers or thin clients.
+ * <p>
+ * Values are collected with {@link #put(int, double)}, typically from {@link #channel(int)} installed as an
+ * animation's {@code onValue} callback, and sent with one {@link #flush()} per tick. Each value is quantized,
+ * and only ids whose quantized value changed since they were last sent are encoded, as varint deltas of the id
+ * and of the value, so bandwidth follows the number of changes instead of the number of animations.
+ * Frames are encoded into one reused direct buffer, so steady state encoding doesn't allocate.
+ * <p>
+ * The writer is not thread safe and is meant to be used from the executor thread. Channels should be blocking,
+ * since {@link #flush()} writes until the whole frame is sent.
+ */
+@Getter
+@Accessors(fluent = true)
+public class FrameStreamWriter {
+    /**
+     * Channel receiving the encoded frames.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * Step values are rounded to before encoding.
+     */
+    private final double quantization;
+
+    /**
+     * Number of frames sent.
+     */
+    private long frames;
+
+    /**
+     * Number of value changes sent.
+     */
+    private long changes;
+
+    /**
+     * Number of bytes sent, including the stream header.
+     */
+    private long bytes;
+
+    private ByteBuffer buffer;
+    private int changesStart;
+    private long[] lastValues = new long[64];
+    private int frameChanges;
+    private int previousId;
+    private boolean headerSent;
+
+    /**
+     * Creates a writer with a buffer of 4 KiB.
+     *
+     * @param channel      channel receiving the encoded frames
+     * @param quantization step values are rounded to, e.g. {@code 1.0 / 255} for 8-bit LED brightness
+     * @throws IllegalArgumentException if channel is null or quantization is not positive
+     */
+    public FrameStreamWriter(@NotNull WritableByteChannel channel, double quantization) {
+        this(channel, quantization, 4096);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param channel      channel receiving the encoded frames
+     * @param quantization step values are rounded to
+     * @param capacity     initial buffer size in bytes, grown when a frame doesn't fit
+     * @throws IllegalArgumentException if channel is null, or quantization or capacity is not positive
+     */
+    public FrameStreamWriter(@NotNull WritableByteChannel channel, double quantization, int capacity) {
+        Validator.requireNonNull(channel, "Channel cannot be null");
+        Validator.requirePositive(quantization, "Quantization step must be positive");
+        Validator.requirePositive(capacity, "Capacity must be positive");
+        this.channel = channel;
+        this.quantization = quantization;
+        int minimum = FrameStream.HEADER_SIZE + Integer.BYTES + FrameStream.MAX_COUNT_SIZE + FrameStream.MAX_CHANGE_SIZE;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(capacity, minimum));
+        beginFrame();
+    }
+
+    /**
+     * Creates a callback writing the values it receives under the given id, to be installed with
+     * {@code animation.onValue(writer.channel(id))}.
+     *
+     * @param id non-negative id of the value on the receiving side
+     * @return the callback
+     * @throws IllegalArgumentException if id is negative
+     */
+    public @NotNull DoubleConsumer channel(int id) {
+        Validator.requireInRange(id, 0, Integer.MAX_VALUE, "Id must be non-negative");
+        return value -> put(id, value);
+    }
+
+    /**
+     * Adds a value to the current frame if its quantized value differs from the one last sent for the id.
+     * Ids are encoded as differences to the previous id of the frame, so ascending ids encode smallest.
+     *
+     * @param id    non-negative id of the value on the receiving side
+     * @param value the value
+     */
+    public void put(int id, double value) {
+        if (id >= lastValues.length) {
+            lastValues = Arrays.copyOf(lastValues, Math.max(lastValues.length * 2, id + 1));
+        }
+        long quantized = Math.round(value / quantization);
+        long delta = quantized - lastValues[id];
+        if (delta == 0) {
+            return;
+        }
+        if (buffer.remaining() < FrameStream.MAX_CHANGE_SIZE) {
+            grow();
+        }
+        FrameStream.putVarLong(buffer, FrameStream.zigzag((long) id - previousId));
+        FrameStream.putVarLong(buffer, FrameStream.zigzag(delta));
+        lastValues[id] = quantized;
+        previousId = id;
+        frameChanges++;
+    }
+
+    /**
+     * Sends the current frame and starts the next one. Frames without changes are not sent.
+     *
+     * @return the number of bytes written to the channel
+     * @throws IOException if writing to the channel fails
+     */
+    public int flush() throws IOException {
+        if (frameChanges == 0) {
+            return 0;
+        }
+
+        // The change count, length and stream header go into the room reserved in front of the changes.
+        int changesEnd = buffer.position();
+        int countStart = changesStart - varLongSize(frameChanges);
+        int lengthStart = countStart - Integer.BYTES;
+        int frameStart = headerSent ? lengthStart : lengthStart - FrameStream.HEADER_SIZE;
+        ((Buffer) buffer).position(countStart);
+        FrameStream.putVarLong(buffer, frameChanges);
+        buffer.putInt(lengthStart, changesEnd - countStart);
+        if (!headerSent) {
+            buffer.putInt(frameStart, FrameStream.MAGIC);
+            buffer.put(frameStart + Integer.BYTES, FrameStream.VERSION);
+            buffer.putDouble(frameStart + Integer.BYTES + 1, quantization);
+            headerSent = true;
+        }
+
+        ((Buffer) buffer).limit(changesEnd).position(frameStart);
+        int written = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        frames++;
+        changes += frameChanges;
+        bytes += written;
+        beginFrame();
+        return written;
+    }
+
+    /**
+     * Prepares the buffer for a new frame, leaving room for the headers and the change count in front.
+     */
+    private void beginFrame() {
+        ((Buffer) buffer).clear();
+        changesStart = (headerSent ? 0 : FrameStream.HEADER_SIZE) + Integer.BYTES + FrameStream.MAX_COUNT_SIZE;
+        ((Buffer) buffer).position(changesStart);
+        frameChanges = 0;
+        previousId = 0;
+    }
+
+    /**
+     * Doubles the buffer, keeping the current frame.
+     */
+    private void grow() {
+        ByteBuffer grown = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+        ((Buffer) buffer).flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
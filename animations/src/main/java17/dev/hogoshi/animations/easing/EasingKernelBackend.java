@@ -0,0 +1,69 @@
+package dev.hogoshi.animations.easing;
+
+/**
+ * Implementation behind {@link EasingKernels} on Java 17+.
+ * Runs the {@link VectorEasingKernels} if the {@code jdk.incubator.vector} module was resolved at startup,
+ * and the scalar kernels otherwise.
+ * Every kernel processes the elements from 0 (inclusive) to {@code length} (exclusive); arguments are already validated.
+ */
+final class EasingKernelBackend {
+    /**
+     * Whether the vector API module was resolved at startup.
+     */
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private EasingKernelBackend() {
+    }
+
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    static void lerp(double[] from, double[] to, double[] progress, double[] out, int length) {
+        if (VECTORIZED) {
+            VectorEasingKernels.lerp(from, to, progress, out, length);
+        } else {
+            ScalarEasingKernels.lerp(from, to, progress, out, 0, length);
+        }
+    }
+
+    static void powIn(double[] values, double[] out, int length, int power) {
+        if (VECTORIZED) {
+            VectorEasingKernels.powIn(values, out, length, power);
+        } else {
+            ScalarEasingKernels.powIn(values, out, 0, length, power);
+        }
+    }
+
+    static void powOut(double[] values, double[] out, int length, int power) {
+        if (VECTORIZED) {
+            VectorEasingKernels.powOut(values, out, length, power);
+        } else {
+            ScalarEasingKernels.powOut(values, out, 0, length, power);
+        }
+    }
+
+    static void powBoth(double[] values, double[] out, int length, int power) {
+        if (VECTORIZED) {
+            VectorEasingKernels.powBoth(values, out, length, power);
+        } else {
+            ScalarEasingKernels.powBoth(values, out, 0, length, power);
+        }
+    }
+
+    static void cubicBezier(double p1, double p2, double[] values, double[] out, int length) {
+        if (VECTORIZED) {
+            VectorEasingKernels.cubicBezier(p1, p2, values, out, length);
+        } else {
+            ScalarEasingKernels.cubicBezier(p1, p2, values, out, 0, length);
+        }
+    }
+
+    static void cubicBezierEase(double p1x, double p1y, double p2x, double p2y, double[] values, double[] out, int length) {
+        if (VECTORIZED) {
+            VectorEasingKernels.cubicBezierEase(p1x, p1y, p2x, p2y, values, out, length);
+        } else {
+            ScalarEasingKernels.cubicBezierEase(p1x, p1y, p2x, p2y, values, out, 0, length);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package dev.hogoshi.animations.easing;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of the batch easing kernels on top of the incubating vector API.
+ * Processes as many lanes as the preferred species of the CPU allows and finishes the tail with scalar code.
+ */
+final class VectorEasingKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorEasingKernels() {
+    }
+
+    static void lerp(double[] from, double[] to, double[] progress, double[] out, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector start = DoubleVector.fromArray(SPECIES, from, i);
+            DoubleVector end = DoubleVector.fromArray(SPECIES, to, i);
+            DoubleVector factor = DoubleVector.fromArray(SPECIES, progress, i);
+            end.sub(start).fma(factor, start).intoArray(out, i);
+        }
+        ScalarEasingKernels.lerp(from, to, progress, out, i, length);
+    }
+
+    static void powIn(double[] values, double[] out, int length, int power) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            pow(DoubleVector.fromArray(SPECIES, values, i), power).intoArray(out, i);
+        }
+        ScalarEasingKernels.powIn(values, out, i, length, power);
+    }
+
+    static void powOut(double[] values, double[] out, int length, int power) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector inverse = DoubleVector.fromArray(SPECIES, values, i).neg().add(1.0D);
+            pow(inverse, power).neg().add(1.0D).intoArray(out, i);
+        }
+        ScalarEasingKernels.powOut(values, out, i, length, power);
+    }
+
+    static void powBoth(double[] values, double[] out, int length, int power) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector value = DoubleVector.fromArray(SPECIES, values, i);
+            VectorMask<Double> firstHalf = value.lt(0.5D);
+            DoubleVector first = pow(value.mul(2.0D), power).mul(0.5D);
+            DoubleVector second = pow(value.neg().add(1.0D).mul(2.0D), power).mul(-0.5D).add(1.0D);
+            second.blend(first, firstHalf).intoArray(out, i);
+        }
+        ScalarEasingKernels.powBoth(values, out, i, length, power);
+    }
+
+    static void cubicBezier(double p1, double p2, double[] values, double[] out, int length) {
+        double c1 = 3.0D * p1;
+        double c2 = 3.0D * p2 - 6.0D * p1;
+        double c3 = 1.0D + 3.0D * p1 - 3.0D * p2;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector t = DoubleVector.fromArray(SPECIES, values, i);
+            horner(t, c1, c2, c3).intoArray(out, i);
+        }
+        ScalarEasingKernels.cubicBezier(p1, p2, values, out, i, length);
+    }
+
+    static void cubicBezierEase(double p1x, double p1y, double p2x, double p2y, double[] values, double[] out, int length) {
+        double x1 = 3.0D * p1x;
+        double x2 = 3.0D * p2x - 6.0D * p1x;
+        double x3 = 1.0D + 3.0D * p1x - 3.0D * p2x;
+        double y1 = 3.0D * p1y;
+        double y2 = 3.0D * p2y - 6.0D * p1y;
+        double y3 = 1.0D + 3.0D * p1y - 3.0D * p2y;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, values, i);
+            DoubleVector start = DoubleVector.zero(SPECIES);
+            DoubleVector end = DoubleVector.broadcast(SPECIES, 1.0D);
+            for (int iteration = 0; iteration < EasingKernels.BISECTION_STEPS; iteration++) {
+                DoubleVector mid = start.add(end).mul(0.5D);
+                VectorMask<Double> below = horner(mid, x1, x2, x3).lt(x);
+                start = start.blend(mid, below);
+                end = mid.blend(end, below);
+            }
+            DoubleVector y = horner(start.add(end).mul(0.5D), y1, y2, y3);
+            y.blend(0.0D, x.compare(VectorOperators.LE, 0.0D))
+                    .blend(1.0D, x.compare(VectorOperators.GE, 1.0D))
+                    .intoArray(out, i);
+        }
+        ScalarEasingKernels.cubicBezierEase(p1x, p1y, p2x, p2y, values, out, i, length);
+    }
+
+    private static DoubleVector horner(DoubleVector t, double c1, double c2, double c3) {
+        return t.mul(c3).add(c2).mul(t).add(c1).mul(t);
+    }
+
+    private static DoubleVector pow(DoubleVector value, int power) {
+        DoubleVector result = DoubleVector.broadcast(SPECIES, 1.0D);
+        for (int i = 0; i < power; i++) {
+            result = result.mul(value);
+        }
+        return result;
+    }
+}
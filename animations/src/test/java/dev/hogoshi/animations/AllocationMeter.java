@@ -0,0 +1,93 @@
+package dev.hogoshi.animations;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread around a piece of code, to keep hot paths allocation free.
+ * Uses the per-thread allocation counter of HotSpot's {@code com.sun.management.ThreadMXBean},
+ * and skips the calling test on JVMs without it.
+ */
+public final class AllocationMeter {
+    /**
+     * Number of runs before measuring, so the measured code is compiled and the JIT's escape analysis applies.
+     */
+    private static final int WARMUP_RUNS = 20_000;
+
+    /**
+     * Number of measured attempts, the lowest result is used to filter out one-off allocations like class loading.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * Thread management bean with allocation counters, or null if the JVM doesn't provide one.
+     */
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Asserts that running the action the given number of times allocates no more than the budget.
+     *
+     * @param name         name of the measured hot path, used in the failure message
+     * @param budgetBytes  allowed allocation for all runs together, 0 for allocation free code
+     * @param runs         number of runs to measure
+     * @param action       the measured code
+     */
+    public static void assertWithinBudget(String name, long budgetBytes, int runs, Runnable action) {
+        long allocated = measure(runs, action);
+        assertTrue(allocated <= budgetBytes,
+                name + " allocated " + allocated + " bytes in " + runs + " runs, budget is " + budgetBytes);
+    }
+
+    /**
+     * Measures the bytes the current thread allocates while running the action the given number of times.
+     *
+     * @param runs   number of runs to measure
+     * @param action the measured code
+     * @return the allocated bytes, corrected for the cost of reading the counter
+     */
+    public static long measure(int runs, Runnable action) {
+        assumeTrue(THREADS != null, "Thread allocation counters are not supported");
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            action.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        long allocated = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            long start = THREADS.getThreadAllocatedBytes(threadId);
+            long end = THREADS.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, end - start);
+
+            start = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < runs; i++) {
+                action.run();
+            }
+            end = THREADS.getThreadAllocatedBytes(threadId);
+            allocated = Math.min(allocated, end - start);
+        }
+        return Math.max(0, allocated - overhead);
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (!threads.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        } catch (LinkageError e) {
+            return null;
+        }
+    }
+}
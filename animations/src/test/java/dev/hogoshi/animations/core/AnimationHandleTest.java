@@ -0,0 +1,82 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class AnimationHandleTest {
+    private static final double DELTA_TIME = 0.1;
+
+    @Test
+    void staleHandlesAreRejectedAfterTheSlotIsReused() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        AnimationHandle stale = executor.execute(animation(0.05));
+        executor.advance(DELTA_TIME);
+        assertTrue(executor.animations().isEmpty());
+
+        Animation next = animation(10);
+        AnimationHandle current = executor.execute(next);
+        assertFalse(stale.isValid());
+        assertNull(stale.animation());
+        assertFalse(stale.cancel(), "A stale handle must not cancel the animation now in its slot");
+        assertFalse(stale.pause());
+        assertTrue(current.isValid());
+        assertSame(next, current.animation());
+        assertFalse(next.paused);
+        executor.stop();
+    }
+
+    @Test
+    void pausingThroughTheHandleHoldsTheAnimation() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation animation = animation(10);
+        AnimationHandle handle = executor.execute(animation);
+        executor.advance(DELTA_TIME);
+        double time = animation.getCurrentTime();
+
+        assertTrue(handle.pause());
+        executor.advance(DELTA_TIME);
+        assertEquals(time, animation.getCurrentTime(), 0);
+        assertTrue(handle.resume());
+        executor.advance(DELTA_TIME);
+        assertTrue(animation.getCurrentTime() > time);
+        executor.stop();
+    }
+
+    @Test
+    void groupsArePausedResumedAndCancelledTogether() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation first = animation(10);
+        Animation second = animation(10);
+        Animation other = animation(10);
+        executor.execute(first.withGroup("menu"));
+        executor.execute(second.withGroup("menu"));
+        executor.execute(other.withGroup("hud"));
+        executor.advance(DELTA_TIME);
+
+        assertEquals(2, executor.pauseGroup("menu"));
+        double time = first.getCurrentTime();
+        executor.advance(DELTA_TIME);
+        assertEquals(time, first.getCurrentTime(), 0);
+        assertEquals(time, second.getCurrentTime(), 0);
+        assertTrue(other.getCurrentTime() > time);
+
+        assertEquals(2, executor.resumeGroup("menu"));
+        assertEquals(2, executor.cancelGroup("menu"));
+        executor.advance(DELTA_TIME);
+        assertEquals(1, executor.animations().size());
+        assertSame(other, executor.animations().get(0));
+        assertEquals(0, executor.cancelGroup("menu"), "Emptied groups are dropped");
+        executor.stop();
+    }
+
+    private static Animation animation(double duration) {
+        return new Animation(new AnimationConfig().duration(duration), 0, 100);
+    }
+}
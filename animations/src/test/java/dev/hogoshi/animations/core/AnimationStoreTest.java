@@ -0,0 +1,42 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class AnimationStoreTest {
+    private static final int ANIMATIONS = 20_000;
+    private static final double DELTA_TIME = 0.0001;
+
+    @Test
+    void tickingWhileAnotherThreadAddsSeesWholeArrays() throws InterruptedException {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        TimeDomain[] domains = {null, new TimeDomain(), new TimeDomain().scale(2)};
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread adder = new Thread(() -> {
+            for (int i = 0; i < ANIMATIONS; i++) {
+                executor.execute(new Animation(new AnimationConfig().duration(1_000), 0, 1).withTimeDomain(domains[i % 3]));
+            }
+        });
+        adder.start();
+        try {
+            while (adder.isAlive() && failure.get() == null) {
+                try {
+                    executor.advance(DELTA_TIME);
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }
+        } finally {
+            adder.join();
+        }
+        assertEquals(null, failure.get());
+        executor.advance(DELTA_TIME);
+        assertEquals(ANIMATIONS, executor.animations().size());
+        executor.stop();
+    }
+}
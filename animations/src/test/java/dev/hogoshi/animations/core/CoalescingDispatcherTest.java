@@ -0,0 +1,73 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class CoalescingDispatcherTest {
+    private static final int ROUNDS = 200;
+    private static final double DELTA_TIME = 0.0001;
+
+    @Test
+    void futureCompletesAfterTheCompletionCallback() throws Exception {
+        ExecutorService callbacks = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                RenderAnimationExecutor executor = new RenderAnimationExecutor();
+                executor.callbackExecutor(callbacks);
+                AtomicBoolean completed = new AtomicBoolean();
+                Animation animation = new Animation(new AnimationConfig().duration(0.005), 0, 1)
+                        .onComplete(() -> completed.set(true));
+                CompletableFuture<Boolean> seen = executor.execute(animation).completion().thenApply(done -> completed.get());
+                while (!seen.isDone() && !executor.animations().isEmpty()) {
+                    executor.advance(DELTA_TIME);
+                }
+                assertTrue(seen.get(5, TimeUnit.SECONDS), "onComplete ran before the future completed");
+                executor.stop();
+            }
+        } finally {
+            callbacks.shutdownNow();
+        }
+    }
+
+    @Test
+    void valuesAreDeliveredAtMostOnceAndInOrder() throws Exception {
+        ExecutorService callbacks = Executors.newFixedThreadPool(3);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                RenderAnimationExecutor executor = new RenderAnimationExecutor();
+                executor.callbackExecutor(callbacks);
+                List<Double> delivered = Collections.synchronizedList(new ArrayList<>());
+                Animation animation = new Animation(new AnimationConfig().duration(0.02).easing(Easings.LINEAR), 0, 1)
+                        .onValue(delivered::add);
+                CompletableFuture<Void> completion = executor.execute(animation).completion();
+                executor.advance(DELTA_TIME);
+                while (!executor.animations().isEmpty()) {
+                    executor.advance(DELTA_TIME);
+                }
+                completion.get(5, TimeUnit.SECONDS);
+
+                assertEquals(1.0, delivered.get(delivered.size() - 1), 0);
+                for (int i = 2; i < delivered.size(); i++) {
+                    assertTrue(delivered.get(i) > delivered.get(i - 1), "Value delivered twice or out of order");
+                }
+                executor.stop();
+            }
+        } finally {
+            callbacks.shutdownNow();
+        }
+    }
+}
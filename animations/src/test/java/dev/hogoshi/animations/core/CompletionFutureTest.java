@@ -0,0 +1,147 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class CompletionFutureTest {
+    private static final double DELTA_TIME = 0.01;
+
+    @Test
+    void completesWhenTheAnimationFinishes() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        AnimationHandle handle = executor.execute(animation(0.05));
+        CompletableFuture<Void> completion = handle.completion();
+        assertSame(completion, handle.completion());
+
+        executor.advance(DELTA_TIME);
+        assertFalse(completion.isDone());
+        for (int i = 0; i < 10; i++) {
+            executor.advance(DELTA_TIME);
+        }
+        assertTrue(completion.isDone());
+        assertFalse(completion.isCompletedExceptionally());
+        assertTrue(handle.completion().isDone(), "Stale handles report a completed future");
+        executor.stop();
+    }
+
+    @Test
+    void completesWhenTheAnimationIsCancelled() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        executor.execute(animation(10));
+        AnimationHandle handle = executor.execute(animation(10));
+        CompletableFuture<Void> completion = handle.completion();
+
+        assertTrue(handle.cancel());
+        assertFalse(completion.isDone(), "The executor drops the animation on its next tick");
+        executor.advance(DELTA_TIME);
+        assertTrue(completion.isDone());
+        assertEquals(1, executor.animations().size());
+        executor.stop();
+    }
+
+    @Test
+    void completesWhenTheAnimationIsInterrupted() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation animation = animation(10);
+        AnimationHandle handle = executor.execute(animation);
+        CompletableFuture<Void> completion = handle.completion();
+        executor.advance(DELTA_TIME);
+
+        animation.interrupt();
+        executor.advance(DELTA_TIME);
+        assertTrue(completion.isDone());
+        assertTrue(executor.animations().isEmpty(), "Interrupted animations leave the executor");
+        executor.stop();
+    }
+
+    @Test
+    void completesWhenTheExecutorStops() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        AnimationHandle first = executor.execute(animation(10));
+        AnimationHandle second = executor.execute(animation(10));
+        CompletableFuture<Void> completion = first.completion();
+        executor.advance(DELTA_TIME);
+
+        executor.stop();
+        assertTrue(completion.isDone());
+        assertTrue(second.completion().isDone());
+    }
+
+    @Test
+    void completesWhenCancelledInPausedTimeDomain() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        TimeDomain screen = new TimeDomain();
+        AnimationHandle handle = executor.execute(animation(10).withTimeDomain(screen));
+        executor.execute(animation(10));
+        CompletableFuture<Void> completion = handle.completion();
+        executor.advance(DELTA_TIME);
+        screen.pause();
+
+        handle.cancel();
+        executor.advance(DELTA_TIME);
+        assertTrue(completion.isDone(), "Cancelling applies even while the domain is paused");
+        assertEquals(1, executor.animations().size());
+        executor.stop();
+    }
+
+    @Test
+    void completesWhenCancelledInPausedTimeDomainUnderFrameBudget() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        executor.frameBudget(0.01);
+        TimeDomain screen = new TimeDomain().pause();
+        AnimationHandle handle = executor.execute(animation(10).withTimeDomain(screen).withGroup("screen"));
+        CompletableFuture<Void> completion = handle.completion();
+        executor.advance(DELTA_TIME);
+
+        assertEquals(1, executor.cancelGroup("screen"));
+        executor.advance(DELTA_TIME);
+        assertTrue(completion.isDone());
+        assertTrue(executor.animations().isEmpty());
+        executor.stop();
+    }
+
+    @Test
+    void ticklessExecutorCompletesAtTheDeadline() {
+        FrameClock clock = new FrameClock();
+        TicklessAnimationExecutor executor = new TicklessAnimationExecutor().frameClock(clock);
+        AnimationHandle finishing = executor.execute(animation(0.001));
+        CompletableFuture<Void> finished = finishing.completion();
+
+        clock.frame(System.nanoTime() + 1_000_000_000L);
+        assertTrue(finished.isDone());
+        assertEquals(0, executor.pendingCount());
+        executor.stop();
+    }
+
+    @Test
+    void ticklessCancelCompletesImmediately() {
+        FrameClock clock = new FrameClock();
+        TicklessAnimationExecutor executor = new TicklessAnimationExecutor().frameClock(clock);
+        Animation animation = animation(10);
+        AnimationHandle handle = executor.execute(animation);
+        CompletableFuture<Void> completion = handle.completion();
+
+        assertTrue(handle.cancel());
+        assertTrue(completion.isDone(), "Cancelled tickless animations leave right away");
+        assertEquals(0, executor.pendingCount());
+        assertFalse(animation.isRunning());
+        double frozen = animation.currentValue();
+        assertEquals(frozen, animation.valueAt(System.nanoTime() + 5_000_000_000L), 0);
+
+        executor.execute(animation);
+        assertEquals(1, executor.pendingCount(), "A cancelled animation can be executed again");
+        executor.stop();
+    }
+
+    private static Animation animation(double duration) {
+        return new Animation(new AnimationConfig().duration(duration), 0, 100);
+    }
+}
@@ -0,0 +1,120 @@
+package dev.hogoshi.animations.core;
+
+import static dev.hogoshi.animations.AllocationMeter.assertWithinBudget;
+
+import java.util.function.DoubleConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+/**
+ * Allocation budgets of the executor update paths. Steady state ticks must not allocate at all.
+ */
+class ExecutorAllocationTest {
+    private static final int ANIMATIONS = 256;
+    private static final int TICKS = 1_000;
+    private static final double DELTA_TIME = 0.001;
+    private static final long FRAME_NANOS = 1_000_000L;
+
+    /**
+     * Sum of all reported values, so callbacks can't be optimized away.
+     */
+    private static double sink;
+    private static final DoubleConsumer CONSUMER = value -> sink += value;
+
+    @Test
+    void frameClockDrivenTickIsAllocationFree() {
+        FrameClock clock = new FrameClock();
+        SimpleAnimationExecutor executor = new SimpleAnimationExecutor();
+        executor.frameClock(clock);
+        fill(executor);
+        long[] time = {System.nanoTime()};
+
+        assertWithinBudget("FrameClock frame", 0, TICKS, () -> clock.frame(time[0] += FRAME_NANOS));
+        executor.stop();
+    }
+
+    @Test
+    void renderExecutorTickIsAllocationFree() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        fill(executor);
+
+        assertWithinBudget("RenderAnimationExecutor tick", 0, TICKS, () -> executor.tick(DELTA_TIME));
+        executor.stop();
+    }
+
+    @Test
+    void swingExecutorTickIsAllocationFree() {
+        SwingAnimationExecutor executor = new SwingAnimationExecutor();
+        executor.frameClock(new FrameClock());
+        fill(executor);
+
+        assertWithinBudget("SwingAnimationExecutor tick", 0, TICKS, () -> executor.tick(DELTA_TIME));
+        executor.stop();
+    }
+
+    @Test
+    void budgetedTickIsAllocationFree() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        executor.frameBudget(1e-9);
+        AnimationPriority[] priorities = AnimationPriority.values();
+        for (int i = 0; i < ANIMATIONS; i++) {
+            executor.execute(longAnimation().withPriority(priorities[i % priorities.length]));
+        }
+
+        assertWithinBudget("Budgeted tick", 0, TICKS, () -> executor.tick(DELTA_TIME));
+        executor.stop();
+    }
+
+    @Test
+    void timeDomainsAndGroupsAreAllocationFree() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        TimeDomain global = new TimeDomain();
+        TimeDomain[] screens = {global.child(), global.child().scale(0.5), global.child().pause()};
+        for (int i = 0; i < ANIMATIONS; i++) {
+            executor.execute(longAnimation().withTimeDomain(screens[i % screens.length]).withGroup(i % 4));
+        }
+        executor.pauseGroup(0);
+
+        assertWithinBudget("Time domain tick", 0, TICKS, () -> executor.tick(DELTA_TIME));
+        executor.stop();
+    }
+
+    @Test
+    void filteredUpdatesAreAllocationFree() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        for (int i = 0; i < ANIMATIONS; i++) {
+            executor.execute(longAnimation().withQuantization(1.0).withThreshold(2.0));
+        }
+
+        assertWithinBudget("Quantized tick", 0, TICKS, () -> executor.tick(DELTA_TIME));
+        executor.stop();
+    }
+
+    @Test
+    void animationLifecycleOnlyAllocatesItsHandle() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation animation = new Animation(new AnimationConfig().duration(DELTA_TIME), 0, 1).onValue(CONSUMER);
+
+        assertWithinBudget("Execute and finish", 32L * TICKS, TICKS, () -> {
+            animation.reset();
+            executor.execute(animation);
+            executor.tick(DELTA_TIME);
+            executor.tick(DELTA_TIME);
+        });
+        executor.stop();
+    }
+
+    private static void fill(AbstractAnimationExecutor executor) {
+        for (int i = 0; i < ANIMATIONS; i++) {
+            executor.execute(longAnimation());
+        }
+    }
+
+    private static Animation longAnimation() {
+        AnimationConfig config = new AnimationConfig().duration(1_000_000).easing(Easings.CUBIC_BOTH);
+        return new Animation(config, 0, 100).onValue(CONSUMER);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class ExecutorSnapshotTest {
+    private static final double DELTA_TIME = 0.01;
+
+    @Test
+    void restoredAnimationsContinueWhereTheyWereSaved() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation[] original = {animation(1), animation(2), animation(0.5)};
+        for (Animation animation : original) {
+            executor.execute(animation);
+        }
+        executor.advance(0.2);
+        executor.advance(0.1);
+
+        Animation[] restored = new Animation[original.length];
+        byte[] snapshot = executor.snapshot(binder(original, restored));
+        RenderAnimationExecutor target = new RenderAnimationExecutor();
+        assertEquals(original.length, target.restore(snapshot, binder(original, restored)));
+
+        for (int tick = 0; tick < 100; tick++) {
+            for (int i = 0; i < original.length; i++) {
+                assertEquals(original[i].getCurrentTime(), restored[i].getCurrentTime(), 0, "time of animation " + i);
+                assertEquals(original[i].getCurrentValue(), restored[i].getCurrentValue(), 0, "value of animation " + i);
+            }
+            executor.advance(DELTA_TIME);
+            target.advance(DELTA_TIME);
+        }
+        assertEquals(executor.animations().size(), target.animations().size());
+        executor.stop();
+        target.stop();
+    }
+
+    @Test
+    void unknownIdsAreSkipped() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation[] original = {animation(1), animation(1)};
+        executor.execute(original[0]);
+        executor.execute(original[1]);
+        executor.advance(0.3);
+        byte[] snapshot = executor.snapshot(binder(original, new Animation[2]));
+
+        Animation[] restored = new Animation[2];
+        AnimationBinder onlySecond = binder(original, restored);
+        RenderAnimationExecutor target = new RenderAnimationExecutor();
+        assertEquals(1, target.restore(snapshot, new AnimationBinder() {
+            @Override
+            public int idOf(AbstractAnimation animation) {
+                return onlySecond.idOf(animation);
+            }
+
+            @Override
+            public AbstractAnimation animationFor(int id) {
+                return id == 1 ? onlySecond.animationFor(id) : null;
+            }
+        }));
+        assertEquals(original[1].getCurrentTime(), restored[1].getCurrentTime(), 0);
+        executor.stop();
+        target.stop();
+    }
+
+    @Test
+    void malformedSnapshotsAreRejected() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation[] original = {animation(1), animation(1)};
+        executor.execute(original[0]);
+        executor.execute(original[1]);
+        executor.advance(0.3);
+        byte[] snapshot = executor.snapshot(binder(original, new Animation[2]));
+        executor.stop();
+
+        for (int length = 0; length < snapshot.length; length++) {
+            byte[] truncated = Arrays.copyOf(snapshot, length);
+            RenderAnimationExecutor target = new RenderAnimationExecutor();
+            assertThrows(IllegalArgumentException.class,
+                    () -> target.restore(truncated, binder(original, new Animation[2])));
+            assertTrue(target.animations().isEmpty(), "Nothing is restored from a truncated snapshot");
+        }
+
+        byte[] hugeCount = snapshot.clone();
+        ByteBuffer.wrap(hugeCount).putInt(Integer.BYTES + 1, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class,
+                () -> new RenderAnimationExecutor().restore(hugeCount, binder(original, new Animation[2])));
+
+        byte[] negativeSize = snapshot.clone();
+        ByteBuffer.wrap(negativeSize).putInt(Integer.BYTES * 3 + 1, -1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new RenderAnimationExecutor().restore(negativeSize, binder(original, new Animation[2])));
+
+        byte[] notSnapshot = snapshot.clone();
+        notSnapshot[0] ^= 1;
+        assertThrows(IllegalArgumentException.class,
+                () -> new RenderAnimationExecutor().restore(notSnapshot, binder(original, new Animation[2])));
+    }
+
+    private static Animation animation(double duration) {
+        return new Animation(new AnimationConfig().duration(duration).easing(Easings.CUBIC_BOTH), 0, 100);
+    }
+
+    /**
+     * Saves the animations under their index in original and restores them into fresh animations stored in restored.
+     */
+    private static AnimationBinder binder(Animation[] original, Animation[] restored) {
+        return new AnimationBinder() {
+            @Override
+            public int idOf(AbstractAnimation animation) {
+                for (int i = 0; i < original.length; i++) {
+                    if (original[i] == animation) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            public AbstractAnimation animationFor(int id) {
+                Animation animation = new Animation(original[id].config, 0, 100);
+                restored[id] = animation;
+                return animation;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class FrameBudgetTest {
+    private static final int CRITICAL = 64;
+    private static final int FRAMES = 40;
+    private static final double DELTA_TIME = 0.01;
+    private static final double NO_TIME = 1e-12;
+    private static final double DURATION = 10;
+
+    @Test
+    void criticalAnimationsUpdateEveryFrameAndDeferredTimeIsKept() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation low = animation();
+        executor.execute(low.withPriority(AnimationPriority.LOW));
+        Animation[] critical = new Animation[CRITICAL];
+        for (int i = 0; i < CRITICAL; i++) {
+            critical[i] = animation();
+            executor.execute(critical[i].withPriority(AnimationPriority.CRITICAL));
+        }
+        executor.frameBudget(NO_TIME);
+
+        int deferredFrames = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            executor.advance(DELTA_TIME);
+            deferredFrames += executor.lastFrameDeferred();
+        }
+        assertTrue(executor.overloaded());
+        assertTrue(deferredFrames > 0, "The low priority animation is deferred once the budget is spent");
+        for (Animation animation : critical) {
+            assertEquals(FRAMES * DELTA_TIME, animation.getCurrentTime() * DURATION, 1e-9);
+        }
+        assertEquals(FRAMES * DELTA_TIME, low.getCurrentTime() * DURATION + low.deferredTime, 1e-9);
+        executor.stop();
+    }
+
+    @Test
+    void deferredAnimationsBlendToTheirCurrentValue() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        Animation low = animation();
+        executor.execute(low.withPriority(AnimationPriority.LOW));
+        for (int i = 0; i < CRITICAL; i++) {
+            executor.execute(animation().withPriority(AnimationPriority.CRITICAL));
+        }
+        executor.advance(DELTA_TIME);
+        executor.advance(DELTA_TIME);
+        double current = low.interpolatedValue(1);
+        assertTrue(low.interpolatedValue(0) < current);
+
+        executor.frameBudget(NO_TIME);
+        executor.advance(DELTA_TIME);
+        assertEquals(1, executor.lastFrameDeferred());
+        assertEquals(current, low.interpolatedValue(0), 0);
+        assertEquals(current, low.interpolatedValue(0.5), 0);
+        executor.stop();
+    }
+
+    private static Animation animation() {
+        return new Animation(new AnimationConfig().duration(DURATION).easing(Easings.LINEAR), 0, 100);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class FrameClockTest {
+    private static final long START = 1_000_000_000L;
+    private static final long FRAME = 16_000_000L;
+
+    @Test
+    void fansOutEveryFrameToAllExecutors() {
+        FrameClock clock = new FrameClock();
+        RenderAnimationExecutor first = new RenderAnimationExecutor();
+        RenderAnimationExecutor second = new RenderAnimationExecutor();
+        first.frameClock(clock);
+        second.frameClock(clock);
+        Animation a = animation();
+        Animation b = animation();
+        first.execute(a);
+        second.execute(b);
+
+        clock.frame(START);
+        assertEquals(0, a.getCurrentTime(), 0, "The first frame only sets the time base");
+        for (int i = 1; i <= 10; i++) {
+            clock.frame(START + i * FRAME);
+        }
+        assertEquals(START + 10 * FRAME, clock.frameTimeNanos());
+        assertEquals(0.16, a.getCurrentTime(), 1e-9);
+        assertEquals(a.getCurrentTime(), b.getCurrentTime(), 0, "Executors on one clock stay frame-coherent");
+        first.stop();
+        second.stop();
+    }
+
+    @Test
+    void idleExecutorsLeaveTheClock() {
+        FrameClock clock = new FrameClock();
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        executor.frameClock(clock);
+        executor.execute(new Animation(new AnimationConfig().duration(0.01), 0, 1));
+        assertTrue(clock.hasListeners());
+
+        clock.frame(START);
+        clock.frame(START + FRAME);
+        assertTrue(executor.animations().isEmpty());
+        assertFalse(clock.hasListeners(), "The executor unsubscribes once no animations are left");
+
+        executor.execute(new Animation(new AnimationConfig().duration(0.01), 0, 1));
+        assertTrue(clock.hasListeners(), "Executing again subscribes again");
+        executor.stop();
+        assertFalse(clock.hasListeners());
+    }
+
+    private static Animation animation() {
+        return new Animation(new AnimationConfig().duration(1).easing(Easings.LINEAR), 0, 100);
+    }
+}
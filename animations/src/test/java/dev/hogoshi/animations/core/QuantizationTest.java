@@ -0,0 +1,57 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class QuantizationTest {
+    private static final double DELTA_TIME = 0.001;
+
+    @Test
+    void reportsWholeStepsOnlyOnce() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        List<Double> values = new ArrayList<>();
+        Animation animation = new Animation(new AnimationConfig().duration(1).easing(Easings.LINEAR), 0, 10);
+        animation.withQuantization(1).onValue(values::add);
+        executor.execute(animation);
+        while (!executor.animations().isEmpty()) {
+            executor.advance(DELTA_TIME);
+        }
+
+        for (int i = 1; i < values.size(); i++) {
+            double value = values.get(i);
+            assertEquals(Math.rint(value), value, 0, "Reported values are multiples of the step");
+            assertTrue(value != values.get(i - 1), "Values rounding to the last one are skipped");
+        }
+        assertEquals(10, values.get(values.size() - 1), 0);
+        assertTrue(animation.getSuppressedUpdates() > 900, "Most of the 1000 updates round to a reported value");
+        executor.stop();
+    }
+
+    @Test
+    void thresholdSkipsSmallChangesButKeepsTheFinalValue() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        List<Double> values = new ArrayList<>();
+        Animation animation = new Animation(new AnimationConfig().duration(1).easing(Easings.LINEAR), 0, 10);
+        animation.withThreshold(3).onValue(values::add);
+        executor.execute(animation);
+        executor.advance(DELTA_TIME);
+        values.clear();
+        while (!executor.animations().isEmpty()) {
+            executor.advance(0.1);
+        }
+
+        assertEquals(10, values.get(values.size() - 1), 0, "The final value bypasses the threshold");
+        for (int i = 1; i < values.size() - 1; i++) {
+            assertTrue(Math.abs(values.get(i) - values.get(i - 1)) >= 3);
+        }
+        executor.stop();
+    }
+}
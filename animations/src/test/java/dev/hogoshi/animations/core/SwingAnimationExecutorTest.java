@@ -0,0 +1,97 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Rectangle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class SwingAnimationExecutorTest {
+    private static final double DELTA_TIME = 0.01;
+    private static final int BATCHES = 50;
+    private static final int BATCH_SIZE = 40;
+
+    @Test
+    void coalescesRepaintsPerComponent() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            SwingAnimationExecutor executor = new SwingAnimationExecutor();
+            executor.frameClock(new FrameClock());
+            RepaintCounter component = new RepaintCounter();
+            executor.execute(animation(), component, new Rectangle(0, 0, 10, 10));
+            executor.execute(animation(), component, new Rectangle(20, 20, 10, 10));
+
+            executor.advance(DELTA_TIME);
+            assertEquals(1, component.repaints, "Both animations share one repaint");
+            assertEquals(new Rectangle(0, 0, 30, 30), component.dirty);
+            executor.stop();
+        });
+    }
+
+    @Test
+    void failedExecuteKeepsTheRunningRegion() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            SwingAnimationExecutor executor = new SwingAnimationExecutor();
+            executor.frameClock(new FrameClock());
+            RepaintCounter owner = new RepaintCounter();
+            RepaintCounter other = new RepaintCounter();
+            Animation animation = animation();
+            executor.execute(animation, owner, new Rectangle(0, 0, 10, 10));
+
+            assertThrows(IllegalArgumentException.class, () -> executor.execute(animation, other, null));
+            executor.advance(DELTA_TIME);
+            assertEquals(1, owner.repaints);
+            assertEquals(0, other.repaints, "A rejected animation leaves no repaint region behind");
+            executor.stop();
+        });
+    }
+
+    @Test
+    void backgroundEvaluationPicksUpAnimationsExecutedDuringFrames() throws Exception {
+        SwingAnimationExecutor executor = new SwingAnimationExecutor().targetFrameRate(1_000);
+        executor.backgroundEvaluation(true);
+        AtomicInteger completedOnEdt = new AtomicInteger();
+        CompletableFuture<?>[] completions = new CompletableFuture<?>[BATCHES * BATCH_SIZE];
+        for (int batch = 0; batch < BATCHES; batch++) {
+            int first = batch * BATCH_SIZE;
+            SwingUtilities.invokeAndWait(() -> {
+                for (int i = first; i < first + BATCH_SIZE; i++) {
+                    Animation animation = new Animation(new AnimationConfig().duration(0.005), 0, 1)
+                            .onComplete(() -> {
+                                if (SwingUtilities.isEventDispatchThread()) {
+                                    completedOnEdt.incrementAndGet();
+                                }
+                            });
+                    completions[i] = executor.execute(animation).completion();
+                }
+            });
+        }
+        CompletableFuture.allOf(completions).get(10, TimeUnit.SECONDS);
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(executor::stop);
+        assertEquals(completions.length, completedOnEdt.get(), "Every animation completes on the event dispatch thread");
+    }
+
+    private static Animation animation() {
+        return new Animation(new AnimationConfig().duration(1), 0, 100);
+    }
+
+    private static final class RepaintCounter extends JComponent {
+        private int repaints;
+        private Rectangle dirty;
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            repaints++;
+            dirty = new Rectangle(x, y, width, height);
+        }
+    }
+}
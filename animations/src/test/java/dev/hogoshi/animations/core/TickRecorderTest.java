@@ -0,0 +1,110 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.Easings;
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class TickRecorderTest {
+    private static final long CAPACITY = 1 << 16;
+    private static final double[] STEPS = {0.016, 0.033, 0.001, 0.05, 0.02, 0.1, 0.016, 0.04};
+
+    @Test
+    void replayReproducesRecordedTicks() throws IOException {
+        Path recording = Files.createTempFile("ticks", ".log");
+        Path replay = Files.createTempFile("replay", ".log");
+        try {
+            RenderAnimationExecutor executor = new RenderAnimationExecutor();
+            try (TickRecorder recorder = new TickRecorder(recording, CAPACITY)) {
+                executor.recorder(recorder);
+                executor.execute(animation(0.1, 0));
+                executor.execute(animation(0.25, 0.05));
+                for (int i = 0; i < STEPS.length; i++) {
+                    if (i == 3) {
+                        executor.execute(animation(0.2, 0));
+                    }
+                    executor.advance(STEPS[i]);
+                }
+                assertFalse(recorder.isFull());
+            }
+            executor.stop();
+
+            TickReplayer recorded = new TickReplayer(recording);
+            RenderAnimationExecutor target = new RenderAnimationExecutor();
+            try (TickRecorder recorder = new TickRecorder(replay, CAPACITY)) {
+                target.recorder(recorder);
+                recorded.replay(target, (id, duration, delay) -> animation(duration, delay));
+            }
+            target.stop();
+
+            List<String> expected = records(recorded);
+            assertTrue(expected.contains("remove 0 false"), "The first animation finished during the recording");
+            assertEquals(expected, records(new TickReplayer(replay)));
+        } finally {
+            Files.delete(recording);
+            Files.delete(replay);
+        }
+    }
+
+    @Test
+    void fullLogDropsRecords() throws IOException {
+        Path file = Files.createTempFile("ticks", ".log");
+        try {
+            RenderAnimationExecutor executor = new RenderAnimationExecutor();
+            try (TickRecorder recorder = new TickRecorder(file, TickRecorder.HEADER_SIZE + 64)) {
+                executor.recorder(recorder);
+                executor.execute(animation(1_000, 0));
+                for (int i = 0; i < 100; i++) {
+                    executor.advance(0.001);
+                }
+                assertTrue(recorder.isFull());
+            }
+            executor.stop();
+
+            List<String> records = records(new TickReplayer(file));
+            assertTrue(records.size() > 0 && records.size() < 10, "Only the records fitting the capacity are kept");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static Animation animation(double duration, double delay) {
+        return new Animation(new AnimationConfig().duration(duration).delay(delay).easing(Easings.CUBIC_BOTH), 0, 100);
+    }
+
+    private static List<String> records(TickReplayer replayer) {
+        List<String> records = new ArrayList<>();
+        replayer.read(new TickReplayer.Visitor() {
+            @Override
+            public void onTick(long timeNanos, double deltaTime) {
+                records.add("tick " + deltaTime);
+            }
+
+            @Override
+            public void onExecute(int id, double duration, double delay) {
+                records.add("execute " + id + " " + duration + " " + delay);
+            }
+
+            @Override
+            public void onValue(int id, double value) {
+                records.add("value " + id + " " + value);
+            }
+
+            @Override
+            public void onRemove(int id, boolean cancelled) {
+                records.add("remove " + id + " " + cancelled);
+            }
+        });
+        return records;
+    }
+}
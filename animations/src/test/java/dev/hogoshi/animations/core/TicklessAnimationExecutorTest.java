@@ -0,0 +1,66 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class TicklessAnimationExecutorTest {
+    private static final int ROUNDS = 200;
+    private static final int ANIMATIONS = 20;
+
+    @Test
+    void finishesWithFinalValueAtTheDeadline() throws Exception {
+        TicklessAnimationExecutor executor = new TicklessAnimationExecutor();
+        List<Double> values = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+        Animation animation = new Animation(new AnimationConfig().duration(0.01), 0, 100)
+                .onValue(values::add)
+                .onComplete(completed::incrementAndGet);
+
+        executor.execute(animation).completion().get(5, TimeUnit.SECONDS);
+        assertEquals(1, completed.get());
+        assertEquals(1, values.size(), "Update callbacks only receive the final value");
+        assertEquals(100, values.get(0), 0);
+        assertEquals(100, animation.currentValue(), 0);
+        executor.stop();
+    }
+
+    @Test
+    void getterReadsTheClockLikeCurrentValue() throws InterruptedException {
+        FrameClock clock = new FrameClock();
+        TicklessAnimationExecutor executor = new TicklessAnimationExecutor().frameClock(clock);
+        Animation animation = new Animation(new AnimationConfig().duration(0.02), 0, 100);
+        executor.execute(animation);
+
+        Thread.sleep(50);
+        assertEquals(100, animation.getCurrentValue(), 0, "No frame ran, yet the getter sees the deadline passed");
+        assertEquals(animation.currentValue(), animation.getCurrentValue(), 0);
+        executor.stop();
+    }
+
+    @Test
+    void restartingWhileCompletingLosesNoAnimation() throws Exception {
+        TicklessAnimationExecutor executor = new TicklessAnimationExecutor();
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < ANIMATIONS; i++) {
+                completions.add(executor.execute(new Animation(new AnimationConfig().duration(0.0001), 0, 1)).completion());
+            }
+            if (round % 2 == 0) {
+                executor.stop();
+            }
+        }
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        assertTrue(completions.stream().allMatch(CompletableFuture::isDone));
+        executor.stop();
+    }
+}
@@ -0,0 +1,54 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class TimeDomainTest {
+    private static final double DELTA_TIME = 0.01;
+    private static final double DURATION = 10;
+
+    @Test
+    void nestedScalesMultiply() {
+        TimeDomain global = new TimeDomain().scale(2);
+        TimeDomain screen = global.child().scale(0.5);
+        TimeDomain component = screen.child().scale(3);
+        assertEquals(3, component.effectiveScale(), 1e-12);
+
+        global.pause();
+        assertEquals(0, component.effectiveScale(), 0, "Pausing an ancestor pauses every descendant");
+        global.resume();
+        assertEquals(3, component.effectiveScale(), 1e-12);
+    }
+
+    @Test
+    void executorsAdvanceEachDomainByItsScale() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        TimeDomain screen = new TimeDomain().scale(0.5);
+        TimeDomain component = screen.child().scale(4);
+        Animation plain = animation();
+        Animation slow = animation();
+        Animation fast = animation();
+        executor.execute(plain);
+        executor.execute(slow.withTimeDomain(screen));
+        executor.execute(fast.withTimeDomain(component));
+
+        executor.advance(DELTA_TIME);
+        assertEquals(DELTA_TIME, plain.getCurrentTime() * DURATION, 1e-12);
+        assertEquals(DELTA_TIME * 0.5, slow.getCurrentTime() * DURATION, 1e-12);
+        assertEquals(DELTA_TIME * 2, fast.getCurrentTime() * DURATION, 1e-12);
+
+        screen.pause();
+        executor.advance(DELTA_TIME);
+        assertEquals(DELTA_TIME * 2, plain.getCurrentTime() * DURATION, 1e-12);
+        assertEquals(DELTA_TIME * 0.5, slow.getCurrentTime() * DURATION, 1e-12);
+        assertEquals(DELTA_TIME * 2, fast.getCurrentTime() * DURATION, 1e-12);
+        executor.stop();
+    }
+
+    private static Animation animation() {
+        return new Animation(new AnimationConfig().duration(DURATION), 0, 100);
+    }
+}
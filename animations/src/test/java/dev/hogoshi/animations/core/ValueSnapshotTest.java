@@ -0,0 +1,104 @@
+package dev.hogoshi.animations.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.AnimationConfig;
+
+class ValueSnapshotTest {
+    private static final int ANIMATIONS = 512;
+    private static final int TICKS = 5_000;
+    private static final double DELTA_TIME = 0.0001;
+
+    @Test
+    void publishesValuesAfterEveryTick() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        ValueSnapshot snapshot = new ValueSnapshot();
+        executor.valueSnapshot(snapshot);
+        Animation animation = new Animation(new AnimationConfig().duration(1), 0, 100);
+        AnimationHandle handle = executor.execute(animation);
+        assertTrue(Double.isNaN(snapshot.value(handle)), "Values show up from the first tick");
+
+        executor.advance(0.25);
+        assertEquals(1, snapshot.ticks());
+        assertEquals(animation.getCurrentValue(), snapshot.value(handle), 0);
+        assertEquals(0.25, snapshot.currentTime(handle), 1e-9);
+        assertTrue(snapshot.isRunning(handle));
+
+        executor.advance(1);
+        assertTrue(executor.animations().isEmpty());
+        assertEquals(100, snapshot.value(handle), 0);
+        assertFalse(snapshot.isRunning(handle), "Finished animations keep their last value");
+
+        AnimationHandle reused = executor.execute(new Animation(new AnimationConfig().duration(1), 0, 100));
+        executor.advance(0.5);
+        assertTrue(Double.isNaN(snapshot.value(handle)), "A reused slot no longer answers for the old handle");
+        assertEquals(50, snapshot.value(reused), 1e-9);
+        executor.stop();
+    }
+
+    @Test
+    void cancelledAnimationsArePublishedAsStopped() {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        ValueSnapshot snapshot = new ValueSnapshot();
+        executor.valueSnapshot(snapshot);
+        AnimationHandle handle = executor.execute(new Animation(new AnimationConfig().duration(1), 0, 100));
+        executor.advance(0.5);
+        handle.cancel();
+        executor.advance(0.1);
+
+        assertFalse(snapshot.isRunning(handle));
+        assertEquals(50, snapshot.value(handle), 1e-9);
+        executor.stop();
+    }
+
+    @Test
+    void readersNeverSeeTornTicks() throws InterruptedException {
+        RenderAnimationExecutor executor = new RenderAnimationExecutor();
+        executor.parallelProcessing(true);
+        ValueSnapshot snapshot = new ValueSnapshot();
+        executor.valueSnapshot(snapshot);
+        AnimationHandle[] handles = new AnimationHandle[ANIMATIONS];
+        for (int i = 0; i < ANIMATIONS; i++) {
+            handles[i] = executor.execute(new Animation(new AnimationConfig().duration(1_000), 0, 1_000));
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            double[] values = new double[ANIMATIONS];
+            long lastTick = 0;
+            while (!done.get() && failure.get() == null) {
+                long tick = snapshot.values(handles, values);
+                if (tick < lastTick) {
+                    failure.set("Tick went backwards from " + lastTick + " to " + tick);
+                }
+                lastTick = tick;
+                for (int i = 1; i < ANIMATIONS; i++) {
+                    if (Double.doubleToLongBits(values[i]) != Double.doubleToLongBits(values[0])) {
+                        failure.set("Tick " + tick + " mixes " + values[0] + " and " + values[i]);
+                        break;
+                    }
+                }
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < TICKS && failure.get() == null; i++) {
+                executor.advance(DELTA_TIME);
+            }
+        } finally {
+            done.set(true);
+            reader.join();
+            executor.stop();
+        }
+        assertEquals(null, failure.get());
+        assertEquals(TICKS, snapshot.ticks());
+    }
+}
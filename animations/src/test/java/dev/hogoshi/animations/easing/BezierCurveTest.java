@@ -0,0 +1,72 @@
+package dev.hogoshi.animations.easing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.bezier.Beziers;
+import dev.hogoshi.animations.easing.bezier.implementation.BezierCurve;
+import dev.hogoshi.animations.easing.bezier.implementation.CubicBezier;
+
+class BezierCurveTest {
+    private static final int SAMPLES = 200;
+
+    @Test
+    void solvesCubicCurvesForX() {
+        double[][] curves = {
+                {0.25, 0.1, 0.25, 1}, {0.42, 0, 0.58, 1}, {0.55, 0, 1, 0.45}, {0, 0.55, 0.45, 1}, {0.68, -0.6, 0.32, 1.6}
+        };
+        for (double[] c : curves) {
+            CubicBezier easing = new CubicBezier(c[0], c[1], c[2], c[3]);
+            for (int i = 0; i <= SAMPLES; i++) {
+                double x = (double) i / SAMPLES;
+                double t = solve(x, c[0], c[2]);
+                assertEquals(cubic(t, c[1], c[3]), easing.ease(x), 1e-7, "curve " + c[0] + "," + c[1] + "," + c[2] + "," + c[3] + " at " + x);
+            }
+        }
+    }
+
+    @Test
+    void flatSlopesFallBackToBisection() {
+        BezierCurve easing = Beziers.CIRC_IN;
+        assertEquals(0, easing.ease(0), 1e-9);
+        assertEquals(1, easing.ease(1), 1e-9);
+        double previous = 0;
+        for (int i = 1; i <= SAMPLES; i++) {
+            double value = easing.ease((double) i / SAMPLES);
+            assertTrue(value >= previous, "Monotone curves stay monotone near their flat end");
+            previous = value;
+        }
+    }
+
+    @Test
+    void higherDegreeCurvesPassThroughTheirEnds() {
+        BezierCurve easing = new BezierCurve(new double[]{0.1, 0.4, 0.9}, new double[]{0.8, -0.2, 1.1});
+        assertEquals(4, easing.degree());
+        assertEquals(0, easing.ease(0), 1e-9);
+        assertEquals(1, easing.ease(1), 1e-9);
+    }
+
+    /**
+     * Solves x(t) = x by plain bisection, since the x-coordinates are monotone for control points in [0,1].
+     */
+    private static double solve(double x, double p1, double p2) {
+        double low = 0;
+        double high = 1;
+        for (int i = 0; i < 200; i++) {
+            double mid = (low + high) / 2;
+            if (cubic(mid, p1, p2) < x) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    private static double cubic(double t, double p1, double p2) {
+        double u = 1 - t;
+        return 3 * u * u * t * p1 + 3 * u * t * t * p2 + t * t * t;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.hogoshi.animations.easing;
+
+import static dev.hogoshi.animations.AllocationMeter.assertWithinBudget;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.easing.bezier.Beziers;
+import dev.hogoshi.animations.model.KeyFrame;
+
+/**
+ * Allocation budgets of the easing functions, which run once per animation per tick and must not allocate.
+ */
+class EasingAllocationTest {
+    private static final int STEPS = 1_000;
+
+    /**
+     * Sum of all eased values, so evaluations can't be optimized away.
+     */
+    private static double sink;
+
+    @Test
+    void predefinedEasingsAreAllocationFree() throws IllegalAccessException {
+        for (Field field : constants(Easings.class)) {
+            assertAllocationFree("Easings." + field.getName(), (Easing) field.get(null));
+        }
+    }
+
+    @Test
+    void bezierEasingsAreAllocationFree() throws IllegalAccessException {
+        for (Field field : constants(Beziers.class)) {
+            assertAllocationFree("Beziers." + field.getName(), (Easing) field.get(null));
+        }
+    }
+
+    @Test
+    void composedEasingsAreAllocationFree() {
+        assertAllocationFree("powIn", Easings.powIn(2.5));
+        assertAllocationFree("powOut", Easings.powOut(2.5));
+        assertAllocationFree("powBoth", Easings.powBoth(2.5));
+        assertAllocationFree("chain", Easing.chain(Easings.QUAD_IN, Beziers.SINE_OUT));
+        assertAllocationFree("KeyFramesEasing", new KeyFramesEasing(Arrays.asList(
+                new KeyFrame(0.0, 0.0),
+                new KeyFrame(0.3, 0.8, Easings.SINE_OUT),
+                new KeyFrame(1.0, 1.0))));
+    }
+
+    private static void assertAllocationFree(String name, Easing easing) {
+        int[] step = {0};
+        assertWithinBudget(name, 0, STEPS, () -> {
+            sink += easing.ease(step[0] / (double) STEPS);
+            step[0] = step[0] == STEPS ? 0 : step[0] + 1;
+        });
+    }
+
+    private static List<Field> constants(Class<?> type) {
+        List<Field> constants = new ArrayList<>();
+        for (Field field : type.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && Easing.class.isAssignableFrom(field.getType())) {
+                constants.add(field);
+            }
+        }
+        return constants;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.hogoshi.animations.easing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.KeyFrame;
+
+class KeyFrameTrackTest {
+    private static final double[] TIMES = {0, 0.3, 0.55, 1};
+    private static final double[][] CHANNELS = {{0, 40, 10, 100}, {5, 5, 80, 20}};
+
+    @Test
+    void channelsMatchSingleChannelEasings() {
+        for (KeyFrameInterpolation interpolation : KeyFrameInterpolation.values()) {
+            KeyFrameTrack.Builder builder = KeyFrameTrack.builder(2).interpolation(interpolation);
+            for (int k = 0; k < TIMES.length; k++) {
+                builder.keyframe(TIMES[k], k == 1 ? Easings.QUAD_OUT : null, CHANNELS[0][k], CHANNELS[1][k]);
+            }
+            KeyFrameTrack track = builder.build();
+            KeyFramesEasing[] easings = new KeyFramesEasing[2];
+            for (int c = 0; c < 2; c++) {
+                KeyFrame[] keyframes = new KeyFrame[TIMES.length];
+                for (int k = 0; k < TIMES.length; k++) {
+                    keyframes[k] = new KeyFrame(TIMES[k], CHANNELS[c][k], k == 1 ? Easings.QUAD_OUT : null);
+                }
+                easings[c] = new KeyFramesEasing(Arrays.asList(keyframes), interpolation);
+            }
+
+            double[] out = new double[3];
+            for (double time = -0.1; time <= 1.1; time += 0.01) {
+                track.sample(time, out, 1);
+                for (int c = 0; c < 2; c++) {
+                    assertEquals(easings[c].ease(time), out[1 + c], 1e-9, interpolation + " channel " + c + " at " + time);
+                }
+            }
+        }
+    }
+
+    @Test
+    void monotoneCubicNeverOvershoots() {
+        KeyFrameTrack track = KeyFrameTrack.builder(1).interpolation(KeyFrameInterpolation.MONOTONE_CUBIC)
+                .keyframe(0, 0).keyframe(0.1, 100).keyframe(0.9, 100).keyframe(1, 0).build();
+        double[] out = new double[1];
+        for (double time = 0; time <= 1; time += 0.001) {
+            track.sample(time, out);
+            assertTrue(out[0] >= 0 && out[0] <= 100, "value " + out[0] + " at " + time);
+        }
+    }
+
+    @Test
+    void catmullRomPassesThroughItsKeyframes() {
+        KeyFrameTrack track = KeyFrameTrack.builder(1).interpolation(KeyFrameInterpolation.CATMULL_ROM)
+                .keyframe(0, 0).keyframe(0.25, 70).keyframe(0.6, 20).keyframe(1, 100).build();
+        double[] out = new double[1];
+        double[][] expected = {{0, 0}, {0.25, 70}, {0.6, 20}, {1, 100}};
+        for (double[] keyframe : expected) {
+            track.sample(keyframe[0], out);
+            assertEquals(keyframe[1], out[0], 1e-9);
+            track.sample(keyframe[0] + 1e-9, out);
+            assertEquals(keyframe[1], out[0], 1e-5, "continuous at " + keyframe[0]);
+        }
+    }
+}
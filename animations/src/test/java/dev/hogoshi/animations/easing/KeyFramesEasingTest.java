@@ -0,0 +1,50 @@
+package dev.hogoshi.animations.easing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hogoshi.animations.model.KeyFrame;
+
+class KeyFramesEasingTest {
+    private static final double H = 1e-6;
+
+    @Test
+    void holdsTheEndValuesOutsideTheKeyframes() {
+        for (KeyFrameInterpolation interpolation : KeyFrameInterpolation.values()) {
+            KeyFramesEasing easing = new KeyFramesEasing(Arrays.asList(
+                    new KeyFrame(0.2, 10), new KeyFrame(0.5, 40), new KeyFrame(0.8, 20)), interpolation);
+            assertEquals(10, easing.ease(0.1), 0, interpolation + " before the first keyframe");
+            assertEquals(10, easing.ease(0), 0);
+            assertEquals(20, easing.ease(0.9), 0, interpolation + " after the last keyframe");
+            assertEquals(20, easing.ease(1), 0);
+        }
+    }
+
+    @Test
+    void linearInterpolationAppliesKeyframeEasings() {
+        KeyFramesEasing easing = new KeyFramesEasing(Arrays.asList(
+                new KeyFrame(0, 0, Easings.QUAD_IN), new KeyFrame(1, 100)));
+        assertEquals(25, easing.ease(0.5), 1e-9);
+    }
+
+    @Test
+    void splinesIgnoreKeyframeEasingsAndKeepTheirSlope() {
+        List<KeyFrame> eased = Arrays.asList(
+                new KeyFrame(0, 0, Easings.QUAD_IN), new KeyFrame(0.4, 60, Easings.QUAD_IN), new KeyFrame(1, 100));
+        List<KeyFrame> plain = Arrays.asList(new KeyFrame(0, 0), new KeyFrame(0.4, 60), new KeyFrame(1, 100));
+        for (KeyFrameInterpolation interpolation : Arrays.asList(KeyFrameInterpolation.CATMULL_ROM, KeyFrameInterpolation.MONOTONE_CUBIC)) {
+            KeyFramesEasing easing = new KeyFramesEasing(eased, interpolation);
+            KeyFramesEasing reference = new KeyFramesEasing(plain, interpolation);
+            for (double time = 0.05; time < 1; time += 0.1) {
+                assertEquals(reference.ease(time), easing.ease(time), 0, interpolation + " at " + time);
+            }
+            double left = (easing.ease(0.4) - easing.ease(0.4 - H)) / H;
+            double right = (easing.ease(0.4 + H) - easing.ease(0.4)) / H;
+            assertEquals(left, right, 1e-3 * Math.abs(left), interpolation + " slope at the inner keyframe");
+        }
+    }
+}
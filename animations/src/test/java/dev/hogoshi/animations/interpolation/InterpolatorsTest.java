@@ -0,0 +1,39 @@
+package dev.hogoshi.animations.interpolation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class InterpolatorsTest {
+    private static final int BLACK = 0xFF000000;
+    private static final int WHITE = 0xFFFFFFFF;
+
+    @Test
+    void argbBlendsEachChannelInSrgb() {
+        assertEquals(BLACK, Interpolators.ARGB.interpolate(BLACK, WHITE, 0));
+        assertEquals(WHITE, Interpolators.ARGB.interpolate(BLACK, WHITE, 1));
+        assertEquals(0x80808080, Interpolators.ARGB.interpolate(0x00000000, WHITE, 0.5));
+        int purple = Interpolators.ARGB.interpolate(0xFFFF0000, 0xFF0000FF, 0.5);
+        assertEquals(0x80, (purple >> 16) & 0xFF, "Red falls");
+        assertEquals(0, (purple >> 8) & 0xFF);
+        assertEquals(0x80, purple & 0xFF, "Blue rises");
+    }
+
+    @Test
+    void linearArgbKeepsPerceivedBrightness() {
+        assertEquals(BLACK, Interpolators.LINEAR_ARGB.interpolate(BLACK, WHITE, 0));
+        assertEquals(WHITE, Interpolators.LINEAR_ARGB.interpolate(BLACK, WHITE, 1));
+        int middle = Interpolators.LINEAR_ARGB.interpolate(BLACK, WHITE, 0.5);
+        assertEquals(0xFF, middle >>> 24);
+        assertEquals(188, (middle >> 16) & 0xFF, 1, "Half of the light is sRGB 188, not 128");
+        assertEquals((middle >> 16) & 0xFF, middle & 0xFF);
+        assertEquals(0x80, Interpolators.LINEAR_ARGB.interpolate(0x00FFFFFF, WHITE, 0.5) >>> 24, "Alpha blends directly");
+    }
+
+    @Test
+    void integersRoundToTheNearestValue() {
+        assertEquals(3, Interpolators.INT.interpolate(0, 5, 0.5));
+        assertEquals(Integer.MAX_VALUE, Interpolators.INT.interpolate(Integer.MIN_VALUE, Integer.MAX_VALUE, 1));
+        assertEquals(1L << 52, Interpolators.LONG.interpolate(0, 1L << 53, 0.5));
+    }
+}
@@ -0,0 +1,67 @@
+package dev.hogoshi.animations.path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class MotionPathTest {
+    private static final int STEPS = 100_000;
+    private static final int SAMPLES = 50;
+
+    @Test
+    void linesHaveExactLengthAndPositions() {
+        MotionPath path = MotionPath.startAt(0, 0).lineTo(30, 40).lineTo(30, 0).build();
+        assertEquals(90, path.length(), 1e-9);
+
+        double[] out = new double[2];
+        path.positionAt(0.5, out);
+        assertEquals(27, out[0], 1e-9);
+        assertEquals(36, out[1], 1e-9);
+        path.positionAt(0.75, out);
+        assertEquals(30, out[0], 1e-9);
+        assertEquals(22.5, out[1], 1e-9);
+        path.positionAt(1, out);
+        assertEquals(30, out[0], 1e-9);
+        assertEquals(0, out[1], 1e-9);
+    }
+
+    @Test
+    void cubicArcLengthMatchesAFinePolyline() {
+        double[] c = {0, 0, 10, 60, 90, -20, 100, 40};
+        MotionPath path = MotionPath.startAt(c[0], c[1]).cubicTo(c[2], c[3], c[4], c[5], c[6], c[7]).build();
+
+        double length = 0;
+        double[] previous = cubic(c, 0);
+        for (int i = 1; i <= STEPS; i++) {
+            double[] point = cubic(c, (double) i / STEPS);
+            length += Math.hypot(point[0] - previous[0], point[1] - previous[1]);
+            previous = point;
+        }
+        assertEquals(length, path.length(), 1e-6 * length);
+    }
+
+    @Test
+    void samplingMovesAtConstantSpeed() {
+        MotionPath path = MotionPath.startAt(0, 0).cubicTo(0, 100, 100, 100, 100, 0).quadTo(100, -50, 150, -50).build();
+        double step = path.length() / SAMPLES;
+        double[] previous = new double[2];
+        double[] point = new double[2];
+        path.positionAt(0, previous);
+        for (int i = 1; i <= SAMPLES; i++) {
+            path.positionAt((double) i / SAMPLES, point);
+            double chord = Math.hypot(point[0] - previous[0], point[1] - previous[1]);
+            assertEquals(step, chord, 0.01 * step, "chord " + i);
+            previous[0] = point[0];
+            previous[1] = point[1];
+        }
+    }
+
+    private static double[] cubic(double[] c, double t) {
+        double u = 1 - t;
+        double a = u * u * u;
+        double b = 3 * u * u * t;
+        double d = 3 * u * t * t;
+        double e = t * t * t;
+        return new double[]{a * c[0] + b * c[2] + d * c[4] + e * c[6], a * c[1] + b * c[3] + d * c[5] + e * c[7]};
+    }
+}
@@ -0,0 +1,89 @@
+package dev.hogoshi.animations.stream;
+
+import static dev.hogoshi.animations.AllocationMeter.assertWithinBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class FrameStreamTest {
+    private static final double STEP = 1.0 / 1024;
+
+    @Test
+    void framesRoundTripOverPipe() throws IOException {
+        Pipe pipe = Pipe.open();
+        FrameStreamWriter writer = new FrameStreamWriter(pipe.sink(), STEP, 64);
+        FrameStreamReader reader = new FrameStreamReader(pipe.source());
+        Random random = new Random(42);
+        double[] expected = new double[300];
+        int[] received = new int[1];
+
+        for (int frame = 0; frame < 20; frame++) {
+            for (int id = 0; id < expected.length; id++) {
+                if (random.nextInt(4) == 0) {
+                    expected[id] = (random.nextDouble() - 0.5) * 2000;
+                }
+                writer.put(id, expected[id]);
+            }
+            writer.flush();
+
+            received[0] = 0;
+            assertTrue(reader.readFrame((id, value) -> received[0]++));
+            assertTrue(received[0] > 0 && received[0] < expected.length, "Only changed values are sent");
+            for (int id = 0; id < expected.length; id++) {
+                assertEquals(expected[id], reader.value(id), STEP / 2);
+            }
+        }
+        assertEquals(STEP, reader.quantization(), 0);
+        assertEquals(20, reader.frames());
+
+        writer.put(7, expected[7]);
+        assertEquals(0, writer.flush(), "Unchanged values produce no frame");
+        pipe.sink().close();
+        assertFalse(reader.readFrame(null));
+    }
+
+    @Test
+    void encodingIsAllocationFree() {
+        FrameStreamWriter writer = new FrameStreamWriter(new DiscardingChannel(), STEP);
+        int[] frame = {0};
+
+        assertWithinBudget("Frame encoding", 0, 1_000, () -> {
+            frame[0]++;
+            for (int id = 0; id < 100; id++) {
+                writer.put(id, Math.sin(frame[0] * 0.01 + id));
+            }
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static final class DiscardingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer source) {
+            int remaining = source.remaining();
+            source.position(source.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}